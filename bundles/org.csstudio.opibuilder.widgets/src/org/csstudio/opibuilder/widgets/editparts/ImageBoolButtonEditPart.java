@@ -229,6 +229,13 @@ public final class ImageBoolButtonEditPart extends AbstractBoolControlEditPart {
 
 
 
+    @Override
+    protected void doActivate() {
+        super.doActivate();
+        // Pause animated images while not on screen
+        addVisibilityListener(showing -> ((ImageBoolButtonFigure) getFigure()).setAnimationSuspended(!showing));
+    }
+
     @Override
     public void deactivate() {
         super.deactivate();
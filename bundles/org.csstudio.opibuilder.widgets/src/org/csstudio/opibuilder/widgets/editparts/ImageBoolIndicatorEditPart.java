@@ -215,6 +215,13 @@ public final class ImageBoolIndicatorEditPart extends AbstractBoolEditPart {
 
 
 
+    @Override
+    protected void doActivate() {
+        super.doActivate();
+        // Pause animated images while not on screen
+        addVisibilityListener(showing -> ((ImageBoolButtonFigure) getFigure()).setAnimationSuspended(!showing));
+    }
+
     @Override
     public void deactivate() {
         super.deactivate();
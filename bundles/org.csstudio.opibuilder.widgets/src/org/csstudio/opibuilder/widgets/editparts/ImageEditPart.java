@@ -248,6 +248,13 @@ public final class ImageEditPart extends AbstractWidgetEditPart {
         registerImageRotationPropertyHandlers();
     }
 
+    @Override
+    protected void doActivate() {
+        super.doActivate();
+        // Pause animated images while not on screen
+        addVisibilityListener(showing -> ((ImageFigure) getFigure()).setAnimationSuspended(!showing));
+    }
+
     @Override
     public void deactivate() {
         super.deactivate();
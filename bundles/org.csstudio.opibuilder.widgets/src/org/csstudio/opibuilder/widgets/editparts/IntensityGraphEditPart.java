@@ -64,6 +64,7 @@ public class IntensityGraphEditPart extends AbstractPVWidgetEditPart {
         graph.setInRGBMode(model.isRGBMode());
         graph.setColorDepth(model.getColorDepth());
         graph.setSingleLineProfiling(model.isSingleLineProfiling());
+        graph.setAreaAveraging(model.isAreaAveraging());
         graph.setROIColor(model.getROIColor().getSWTColor());
         // init X-Axis
         for (AxisProperty axisProperty : AxisProperty.values()) {
@@ -137,6 +138,8 @@ public class IntensityGraphEditPart extends AbstractPVWidgetEditPart {
                 IntensityGraphModel.PROP_COLOR_MAP, !rgbMode);
         getWidgetModel().setPropertyVisible(
                 IntensityGraphModel.PROP_SHOW_RAMP, !rgbMode);
+        getWidgetModel().setPropertyVisible(
+                IntensityGraphModel.PROP_AREA_AVERAGING, !rgbMode);
 
     }
 
@@ -157,7 +160,7 @@ public class IntensityGraphEditPart extends AbstractPVWidgetEditPart {
                 return false;
             }
 
-            ((IntensityGraphFigure) figure).setDataArray(VTypeHelper.getDoubleArray(value));
+            setValue(VTypeHelper.getNumberList(value));
 
             return false;
         };
@@ -320,6 +323,12 @@ public class IntensityGraphEditPart extends AbstractPVWidgetEditPart {
         };
         setPropertyChangeHandler(IntensityGraphModel.PROP_SINGLE_LINE_PROFILING, handler);
 
+        handler = (oldValue, newValue, figure) -> {
+            ((IntensityGraphFigure) getFigure()).setAreaAveraging((Boolean) newValue);
+            return false;
+        };
+        setPropertyChangeHandler(IntensityGraphModel.PROP_AREA_AVERAGING, handler);
+
         handler = (oldValue, newValue, figure) -> {
             ((IntensityGraphFigure) getFigure()).setROIColor(((OPIColor) newValue).getSWTColor());
             return false;
@@ -15,10 +15,10 @@ import org.csstudio.opibuilder.widgets.Activator;
 import org.csstudio.opibuilder.widgets.model.XYGraphModel;
 import org.csstudio.opibuilder.widgets.model.XYGraphModel.AxisProperty;
 import org.csstudio.opibuilder.widgets.model.XYGraphModel.TraceProperty;
+import org.csstudio.swt.widgets.datadefinition.DecimatingDataProvider;
 import org.csstudio.ui.util.CustomMediaFactory;
 import org.csstudio.ui.util.thread.UIBundlingThread;
 import org.eclipse.draw2d.IFigure;
-import org.eclipse.nebula.visualization.xygraph.dataprovider.CircularBufferDataProvider;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.CircularBufferDataProvider.PlotMode;
 import org.eclipse.nebula.visualization.xygraph.dataprovider.CircularBufferDataProvider.UpdateMode;
 import org.eclipse.nebula.visualization.xygraph.figures.Axis;
@@ -51,6 +51,8 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
 
     @Override
     protected IFigure doCreateFigure() {
+        // Traces may concatenate or keep a history of the received values
+        getPVWidgetEditpartDelegate().setSuspendable(false);
         final XYGraphModel model = getWidgetModel();
         ToolbarArmedXYGraph xyGraphFigure = new ToolbarArmedXYGraph();
         IXYGraph xyGraph = xyGraphFigure.getXYGraph();
@@ -89,8 +91,9 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
 
         // init all traces
         for (int i = 0; i < XYGraphModel.MAX_TRACES_AMOUNT; i++) {
-            traceList.add(new Trace("", xyGraph.getPrimaryXAxis(), xyGraph.getPrimaryYAxis(),
-                    new CircularBufferDataProvider(false)));
+            DecimatingDataProvider dataProvider = new DecimatingDataProvider(false);
+            dataProvider.setXAxis(xyGraph.getPrimaryXAxis());
+            traceList.add(new Trace("", xyGraph.getPrimaryXAxis(), xyGraph.getPrimaryYAxis(), dataProvider));
             if (i < model.getTracesAmount()) {
                 xyGraph.addTrace(traceList.get(i));
             }
@@ -172,7 +175,7 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
         // trigger pv value
         handler = (oldValue, newValue, figure) -> {
             for (int i = 0; i < getWidgetModel().getTracesAmount(); i++) {
-                CircularBufferDataProvider dataProvider = (CircularBufferDataProvider) traceList.get(i)
+                DecimatingDataProvider dataProvider = (DecimatingDataProvider) traceList.get(i)
                         .getDataProvider();
                 if (dataProvider.getUpdateMode() == UpdateMode.TRIGGER) {
                     dataProvider.triggerUpdate();
@@ -416,7 +419,7 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
 
     protected void setTraceProperty(Trace trace, TraceProperty traceProperty, Object newValue, String xPVPropID,
             String yPVPropID) {
-        CircularBufferDataProvider dataProvider = (CircularBufferDataProvider) trace.getDataProvider();
+        DecimatingDataProvider dataProvider = (DecimatingDataProvider) trace.getDataProvider();
         switch (traceProperty) {
         case ANTI_ALIAS:
             trace.setAntiAliasing((Boolean) newValue);
@@ -455,6 +458,9 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
         case CONCATENATE_DATA:
             dataProvider.setConcatenate_data((Boolean) newValue);
             break;
+        case DECIMATE:
+            dataProvider.setDecimated((Boolean) newValue);
+            break;
         // case TRIGGER_VALUE:
         // dataProvider.triggerUpdate();
         // break;
@@ -467,6 +473,7 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
         case XAXIS_INDEX:
             if (!axisList.get((Integer) newValue).isYAxis()) {
                 trace.setXAxis(axisList.get((Integer) newValue));
+                dataProvider.setXAxis(trace.getXAxis());
             }
             break;
         case YAXIS_INDEX:
@@ -521,7 +528,7 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
         }
     }
 
-    private void setXValue(CircularBufferDataProvider dataProvider, VType value) {
+    private void setXValue(DecimatingDataProvider dataProvider, VType value) {
         if (VTypeHelper.getSize(value) > 1) {
             dataProvider.setCurrentXDataArray(VTypeHelper.getDoubleArray(value));
         } else {
@@ -530,7 +537,7 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
     }
 
     private void setYValue(Trace trace,
-            CircularBufferDataProvider dataProvider, VType y_value) {
+            DecimatingDataProvider dataProvider, VType y_value) {
         if (VTypeHelper.getSize(y_value) == 1 && trace.getXAxis().isDateEnabled() && dataProvider.isChronological()) {
             Instant timestamp = VTypeHelper.getTimestamp(y_value);
             long time = timestamp.toEpochMilli();
@@ -599,24 +606,24 @@ public class XYGraphEditPart extends AbstractPVWidgetEditPart {
      */
     public void clearGraph() {
         for (int i = 0; i < getWidgetModel().getTracesAmount(); i++) {
-            ((CircularBufferDataProvider) traceList.get(i).getDataProvider()).clearTrace();
+            ((DecimatingDataProvider) traceList.get(i).getDataProvider()).clearTrace();
         }
     }
 
     public double[] getXBuffer(int i) {
-        CircularBufferDataProvider dataProvider = (CircularBufferDataProvider) traceList.get(i).getDataProvider();
-        double[] XBuffer = new double[dataProvider.getSize()];
-        for (int j = 0; j < dataProvider.getSize(); j++) {
-            XBuffer[j] = dataProvider.getSample(j).getXValue();
+        DecimatingDataProvider dataProvider = (DecimatingDataProvider) traceList.get(i).getDataProvider();
+        double[] XBuffer = new double[dataProvider.getRawSize()];
+        for (int j = 0; j < XBuffer.length; j++) {
+            XBuffer[j] = dataProvider.getRawSample(j).getXValue();
         }
         return XBuffer;
     }
 
     public double[] getYBuffer(int i) {
-        CircularBufferDataProvider dataProvider = (CircularBufferDataProvider) traceList.get(i).getDataProvider();
-        double[] YBuffer = new double[dataProvider.getSize()];
-        for (int j = 0; j < dataProvider.getSize(); j++) {
-            YBuffer[j] = dataProvider.getSample(j).getYValue();
+        DecimatingDataProvider dataProvider = (DecimatingDataProvider) traceList.get(i).getDataProvider();
+        double[] YBuffer = new double[dataProvider.getRawSize()];
+        for (int j = 0; j < YBuffer.length; j++) {
+            YBuffer[j] = dataProvider.getRawSample(j).getYValue();
         }
         return YBuffer;
     }
@@ -51,6 +51,7 @@ public class ImageBoolButtonFigure extends AbstractBoolControlFigure implements
     private AtomicInteger remainingImagesToLoad = new AtomicInteger(0);
 
     private boolean animationDisabled = false;
+    private boolean animationSuspended = false;
 
     private IImageListener imageListener;
 
@@ -208,6 +209,7 @@ public class ImageBoolButtonFigure extends AbstractBoolControlFigure implements
             incrementLoadingCounter();
         offImage = SymbolImageFactory.asynCreateSymbolImage(this.offImagePath,
                 true, symbolProperties, this);
+        offImage.setAnimationSuspended(animationSuspended);
     }
 
     public void setOnImagePath(IPath onImagePath) {
@@ -220,6 +222,7 @@ public class ImageBoolButtonFigure extends AbstractBoolControlFigure implements
             incrementLoadingCounter();
         onImage = SymbolImageFactory.asynCreateSymbolImage(this.onImagePath,
                 true, symbolProperties, this);
+        onImage.setAnimationSuspended(animationSuspended);
     }
 
     @Override
@@ -277,6 +280,15 @@ public class ImageBoolButtonFigure extends AbstractBoolControlFigure implements
         repaint();
     }
 
+    /**
+     * Pauses the animations while the widget is not on screen.
+     */
+    public void setAnimationSuspended(final boolean suspended) {
+        animationSuspended = suspended;
+        for (SymbolImage asi : getAllImages())
+            asi.setAnimationSuspended(suspended);
+    }
+
     public void setAlignedToNearestSecond(final boolean aligned) {
         if (symbolProperties != null) {
             symbolProperties.setAlignedToNearestSecond(aligned);
@@ -65,6 +65,7 @@ public final class ImageFigure extends Figure implements Introspectable, SymbolI
     private AtomicInteger remainingImagesToLoad = new AtomicInteger(0);
 
     private boolean animationDisabled = false;
+    private boolean animationSuspended = false;
 
     private IImageListener imageListener;
 
@@ -103,6 +104,7 @@ public final class ImageFigure extends Figure implements Introspectable, SymbolI
             incrementLoadingCounter();
         }
         image = SymbolImageFactory.asynCreateSymbolImage(filePath, true, symbolProperties, this);
+        image.setAnimationSuspended(animationSuspended);
     }
 
     public boolean isLoadingImage() {
@@ -305,6 +307,16 @@ public final class ImageFigure extends Figure implements Introspectable, SymbolI
         repaint();
     }
 
+    /**
+     * Pauses the animation while the widget is not on screen.
+     */
+    public void setAnimationSuspended(final boolean suspended) {
+        animationSuspended = suspended;
+        if (image != null) {
+            image.setAnimationSuspended(suspended);
+        }
+    }
+
     public void setAlignedToNearestSecond(final boolean aligned) {
         if (symbolProperties != null) {
             symbolProperties.setAlignedToNearestSecond(aligned);
@@ -183,6 +183,9 @@ public class IntensityGraphModel extends AbstractPVWidgetModel {
 
     public static final String PROP_SINGLE_LINE_PROFILING = "single_line_profiling";
 
+    /** Scale down the image by averaging the data covered by each pixel */
+    public static final String PROP_AREA_AVERAGING = "area_averaging";
+
     public static final String PROP_ROI_COLOR = "roi_color";
 
     public static final String PROP_ROI_COUNT = "roi_count";
@@ -267,6 +270,9 @@ public class IntensityGraphModel extends AbstractPVWidgetModel {
         addProperty(new BooleanProperty(PROP_SINGLE_LINE_PROFILING, "Profile on Single Line",
                 WidgetPropertyCategory.Behavior, false), true);
 
+        addProperty(new BooleanProperty(PROP_AREA_AVERAGING, "Downscale by Averaging",
+                WidgetPropertyCategory.Behavior, false), true);
+
         addProperty(new ColorProperty(PROP_ROI_COLOR, "ROI Color",
                 WidgetPropertyCategory.Display, CustomMediaFactory.COLOR_CYAN), true);
 
@@ -516,4 +522,8 @@ public class IntensityGraphModel extends AbstractPVWidgetModel {
         return (Boolean) getPropertyValue(PROP_SINGLE_LINE_PROFILING);
     }
 
+    public boolean isAreaAveraging() {
+        return (Boolean) getPropertyValue(PROP_AREA_AVERAGING);
+    }
+
 }
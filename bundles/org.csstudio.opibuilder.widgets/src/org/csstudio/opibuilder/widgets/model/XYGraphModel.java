@@ -78,7 +78,8 @@ public class XYGraphModel extends AbstractPVWidgetModel {
                         "Line Width"), POINT_STYLE("point_style", "Point Style"), POINT_SIZE("point_size",
                                 "Point Size"), ANTI_ALIAS("anti_alias", "Anti Alias"), UPDATE_MODE("update_mode",
                                         "Update Mode"), CONCATENATE_DATA("concatenate_data",
-                                                "Concatenate Data"), VISIBLE("visible", "Visible");
+                                                "Concatenate Data"), DECIMATE("decimate", "Decimate"),
+        VISIBLE("visible", "Visible");
         public String propIDPre;
         public String description;
 
@@ -335,6 +336,9 @@ public class XYGraphModel extends AbstractPVWidgetModel {
         case CONCATENATE_DATA:
             addProperty(new BooleanProperty(propID, traceProperty.toString(), category, true));
             break;
+        case DECIMATE:
+            addProperty(new BooleanProperty(propID, traceProperty.toString(), category, false));
+            break;
         // case CLEAR_TRACE:
         // addProperty(new BooleanProperty(propID, traceProperty.toString(), category, false));
         // break;
@@ -24,14 +24,18 @@ import org.eclipse.swt.dnd.TextTransfer;
 import org.eclipse.swt.dnd.Transfer;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
-import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.IObjectActionDelegate;
 import org.eclipse.ui.IWorkbenchPart;
+import org.yamcs.studio.data.PVFactory;
+import org.yamcs.studio.data.PVPool;
 
 /**
  * Dump all PVs in the OPI.
@@ -101,12 +105,20 @@ public class DumpPVListAction implements IObjectActionDelegate {
             getShell().setText("PV List");
             getShell().setMinimumSize(200, 300);
             Composite container = (Composite) super.createDialogArea(parent);
-            FillLayout layout = new FillLayout();
+            GridLayout layout = new GridLayout();
             layout.marginHeight = 10;
             layout.marginWidth = 5;
             container.setLayout(layout);
             Text text = new Text(container, SWT.BORDER | SWT.MULTI | SWT.V_SCROLL);
             text.setText(pvsText);
+            text.setLayoutData(new GridData(GridData.FILL_BOTH));
+
+            PVPool pool = PVFactory.getInstance().getPool();
+            Label poolLabel = new Label(container, SWT.WRAP);
+            poolLabel.setText(String.format(
+                    "Shared connections (all displays): %d for %d started PVs. %d of %d starts reused a connection.",
+                    pool.getSourceCount(), pool.getHandleCount(), pool.getReuseCount(), pool.getRequestCount()));
+            poolLabel.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
             return container;
         }
 
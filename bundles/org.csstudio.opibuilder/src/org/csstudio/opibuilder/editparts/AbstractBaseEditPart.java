@@ -14,6 +14,7 @@ import org.csstudio.opibuilder.editpolicies.WidgetComponentEditPolicy;
 import org.csstudio.opibuilder.editpolicies.WidgetNodeEditPolicy;
 import org.csstudio.opibuilder.model.AbstractWidgetModel;
 import org.csstudio.opibuilder.model.ConnectionModel;
+import org.csstudio.opibuilder.preferences.PreferencesHelper;
 import org.csstudio.opibuilder.properties.AbstractWidgetProperty;
 import org.csstudio.opibuilder.properties.IWidgetPropertyChangeHandler;
 import org.csstudio.opibuilder.properties.WidgetPropertyChangeListener;
@@ -107,6 +108,10 @@ public abstract class AbstractBaseEditPart extends AbstractGraphicalEditPart imp
 
     private boolean hasStartedPVs = false;
 
+    private WidgetVisibilityTracker visibilityTracker;
+
+    private List<WidgetVisibilityListener> visibilityListeners = new ArrayList<>();
+
     public AbstractBaseEditPart() {
         propertyListenerMap = new HashMap<>();
     }
@@ -223,6 +228,27 @@ public abstract class AbstractBaseEditPart extends AbstractGraphicalEditPart imp
     protected void doDeActivate() {
     }
 
+    /**
+     * Adds a listener that is notified when the widget is hidden or shown again. Only has an effect in run mode, and if
+     * widgets that are not visible should be paused. The listener is removed when the editpart is deactivated.
+     *
+     * @param listener
+     *            the listener, which assumes that the widget is showing until notified otherwise.
+     */
+    protected void addVisibilityListener(WidgetVisibilityListener listener) {
+        if (executionMode != ExecutionMode.RUN_MODE || !PreferencesHelper.isSuspendOffscreenWidgets()) {
+            return;
+        }
+        if (visibilityTracker == null) {
+            visibilityTracker = WidgetVisibilityTracker.get(getViewer());
+            if (visibilityTracker == null) {
+                return;
+            }
+        }
+        visibilityTracker.addVisibilityListener(this, listener);
+        visibilityListeners.add(listener);
+    }
+
     protected void addToConnectionHandler(String pvName, IPV pv) {
         if (connectionHandler == null) {
             connectionHandler = createConnectionHandler();
@@ -262,6 +288,13 @@ public abstract class AbstractBaseEditPart extends AbstractGraphicalEditPart imp
     public void deactivate() {
         if (isActive()) {
             doDeActivate();
+            if (visibilityTracker != null) {
+                for (WidgetVisibilityListener listener : visibilityListeners) {
+                    visibilityTracker.removeVisibilityListener(listener);
+                }
+                visibilityListeners.clear();
+                visibilityTracker = null;
+            }
             ActionsInput input = getWidgetModel().getActionsInput();
             for (AbstractWidgetAction a : input.getActionsList()) {
                 a.dispose();
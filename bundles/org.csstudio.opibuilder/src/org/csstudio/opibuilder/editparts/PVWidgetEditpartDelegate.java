@@ -5,12 +5,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 
-import org.csstudio.java.thread.ExecutionService;
 import org.csstudio.opibuilder.OPIBuilderPlugin;
 import org.csstudio.opibuilder.model.AbstractPVWidgetModel;
 import org.csstudio.opibuilder.model.AbstractWidgetModel;
@@ -28,6 +26,7 @@ import org.csstudio.opibuilder.util.OPITimer;
 import org.csstudio.opibuilder.visualparts.BorderFactory;
 import org.csstudio.opibuilder.visualparts.BorderStyle;
 import org.csstudio.ui.util.CustomMediaFactory;
+import org.csstudio.ui.util.thread.AnimationClock;
 import org.csstudio.ui.util.thread.UIBundlingThread;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.draw2d.AbstractBorder;
@@ -69,24 +68,18 @@ public class PVWidgetEditpartDelegate implements IPVWidgetEditpart {
         @Override
         public void valueChanged(IPV pv) {
 
-            final AbstractWidgetModel widgetModel = editpart.getWidgetModel();
-
             // write access
             // if(isControlPV)
             // updateWritable(widgetModel, pv);
 
-            if (pv.getValue() != null) {
-                if (ignoreOldPVValue) {
-                    widgetModel.getPVMap()
-                            .get(widgetModel.getProperty(pvPropID))
-                            .setPropertyValue_IgnoreOldValue(pv.getValue());
-                } else {
-                    widgetModel.getPVMap()
-                            .get(widgetModel.getProperty(pvPropID))
-                            .setPropertyValue(pv.getValue());
+            if (suspended) {
+                pendingPVPropIDs.add(pvPropID);
+                // Resumed in the meantime, and the pending update was not yet picked up
+                if (suspended || !pendingPVPropIDs.remove(pvPropID)) {
+                    return;
                 }
             }
-
+            applyPVValue(pvPropID, pv);
         }
 
         @Override
@@ -145,10 +138,23 @@ public class PVWidgetEditpartDelegate implements IPVWidgetEditpart {
     private ListenerList<ISetPVValueListener> setPVValueListeners;
     private ListenerList<AlarmSeverityListener> alarmSeverityListeners;
     private boolean isAlarmPulsing = false;
-    private ScheduledFuture<?> scheduledFuture;
+    // Registered with the animation clock while pulsing, even if the widget is not showing
+    private AnimationClock.Animation pulsingAnimation;
 
     private boolean pvsHaveBeenStarted = false;
 
+    // While the widget is not showing, PV updates are only recorded and applied when it is shown again.
+    private volatile boolean suspended = false;
+    private final Set<String> pendingPVPropIDs = ConcurrentHashMap.newKeySet();
+    private long suspendedSince;
+    private boolean pvsReleased = false;
+    private WidgetVisibilityTracker visibilityTracker;
+    /**
+     * Widgets that accumulate every received value, such as a plot history, must not be suspended since only the
+     * latest value is applied when a suspended widget is shown again.
+     */
+    private boolean suspendable = true;
+
     /**
      * @param editpart
      *            the editpart to be delegated. It must implemented {@link IPVWidgetEditpart}
@@ -158,6 +164,10 @@ public class PVWidgetEditpartDelegate implements IPVWidgetEditpart {
 
     }
 
+    AbstractBaseEditPart getEditPart() {
+        return editpart;
+    }
+
     public IPVWidgetModel getWidgetModel() {
         if (widgetModel == null) {
             widgetModel = (IPVWidgetModel) editpart.getWidgetModel();
@@ -208,15 +218,96 @@ public class PVWidgetEditpartDelegate implements IPVWidgetEditpart {
                         "Unable to connect to PV:" + pv.getName(), e);
             }
         }
+
+        if (editpart.getExecutionMode() == ExecutionMode.RUN_MODE && suspendable
+                && PreferencesHelper.isSuspendOffscreenWidgets()) {
+            visibilityTracker = WidgetVisibilityTracker.get(editpart.getViewer());
+            if (visibilityTracker != null) {
+                visibilityTracker.register(this);
+            }
+        }
+    }
+
+    /**
+     * Pause or resume the handling of PV updates. While paused, only the latest value of each PV is applied when the
+     * widget is shown again. If the widget remains hidden for longer than the release delay, its PVs are stopped
+     * until it is shown again.
+     * 
+     * @param showing
+     *            whether the widget is currently visible on screen
+     * @param now
+     *            the current time in milliseconds
+     * @param releaseDelay
+     *            the time in milliseconds after which the PVs of a hidden widget are stopped. Negative to keep them
+     *            started.
+     */
+    void setShowing(boolean showing, long now, long releaseDelay) {
+        if (!showing) {
+            if (!suspended) {
+                suspended = true;
+                suspendedSince = now;
+                pausePulsing();
+            } else if (!pvsReleased && releaseDelay >= 0 && now - suspendedSince >= releaseDelay) {
+                pvsReleased = true;
+                for (IPV pv : pvMap.values()) {
+                    if (pv.isStarted()) {
+                        pv.stop();
+                    }
+                }
+            }
+        } else if (suspended) {
+            suspended = false;
+            resumePulsing();
+            if (pvsReleased) {
+                pvsReleased = false;
+                // Restarted PVs notify their current value, if there is one already
+                for (IPV pv : pvMap.values()) {
+                    if (!pv.isStarted()) {
+                        pv.start();
+                    }
+                }
+            }
+            for (String pvPropID : pendingPVPropIDs) {
+                IPV pv = pvMap.get(pvPropID);
+                if (pendingPVPropIDs.remove(pvPropID) && pv != null) {
+                    applyPVValue(pvPropID, pv);
+                }
+            }
+        }
+    }
+
+    private void applyPVValue(String pvPropID, IPV pv) {
+        VType value = pv.getValue();
+        if (value != null) {
+            AbstractWidgetModel widgetModel = editpart.getWidgetModel();
+            if (ignoreOldPVValue) {
+                widgetModel.getPVMap()
+                        .get(widgetModel.getProperty(pvPropID))
+                        .setPropertyValue_IgnoreOldValue(value);
+            } else {
+                widgetModel.getPVMap()
+                        .get(widgetModel.getProperty(pvPropID))
+                        .setPropertyValue(value);
+            }
+        }
     }
 
     public void doDeActivate() {
+        if (visibilityTracker != null) {
+            visibilityTracker.unregister(this);
+            visibilityTracker = null;
+        }
         if (pvsHaveBeenStarted) {
             for (IPV pv : pvMap.values()) {
-                pv.stop();
+                if (pv.isStarted()) {
+                    pv.stop();
+                }
             }
             pvsHaveBeenStarted = false;
         }
+        suspended = false;
+        pvsReleased = false;
+        pendingPVPropIDs.clear();
         for (String pvPropID : pvListenerMap.keySet()) {
             pvMap.get(pvPropID).removeListener(pvListenerMap.get(pvPropID));
         }
@@ -425,7 +516,9 @@ public class PVWidgetEditpartDelegate implements IPVWidgetEditpart {
                 IPV oldPV = pvMap.get(pvNamePropID);
                 editpart.removeFromConnectionHandler((String) oldValue);
                 if (oldPV != null) {
-                    oldPV.stop();
+                    if (oldPV.isStarted()) {
+                        oldPV.stop();
+                    }
                     oldPV.removeListener(pvListenerMap.get(pvNamePropID));
                 }
                 pvMap.remove(pvNamePropID);
@@ -442,7 +535,10 @@ public class PVWidgetEditpartDelegate implements IPVWidgetEditpart {
                     editpart.addToConnectionHandler(newPVName, newPV);
                     pvListenerMap.put(pvNamePropID, pvListener);
 
-                    newPV.start();
+                    // A released widget starts its PVs once it is shown again
+                    if (!pvsReleased) {
+                        newPV.start();
+                    }
                 } catch (Exception e) {
                     OPIBuilderPlugin.getLogger().log(Level.WARNING, "Unable to connect to PV:" +
                             newPVName, e);
@@ -511,32 +607,50 @@ public class PVWidgetEditpartDelegate implements IPVWidgetEditpart {
     }
 
     public synchronized void stopPulsing() {
-        if (scheduledFuture != null) {
-            // stop the pulsing runnable
-            scheduledFuture.cancel(true);
-            scheduledFuture = null;
+        if (pulsingAnimation != null) {
+            AnimationClock.getInstance().unregister(pulsingAnimation);
+            pulsingAnimation = null;
         }
     }
 
     public synchronized void startPulsing() {
         stopPulsing();
-        Runnable pulsingTask = () -> UIBundlingThread.getInstance().addRunnable(() -> {
-            synchronized (PVWidgetEditpartDelegate.this) {
-                // Change the colours of all alarm sensitive components
-                if (isBackColorAlarmSensitive) {
-                    editpart.getFigure().setBackgroundColor(calculateBackColor());
+        int refreshCycle = PreferencesHelper.getGUIRefreshCycle();
+        pulsingAnimation = new AnimationClock.Animation() {
+            private long lastPulseTime = System.currentTimeMillis();
+
+            @Override
+            public void tick(long now) {
+                if (now - lastPulseTime < refreshCycle) {
+                    return;
                 }
-                if (isForeColorAlarmSensitive) {
-                    editpart.getFigure().setForegroundColor(calculateForeColor());
+                lastPulseTime = now;
+                synchronized (PVWidgetEditpartDelegate.this) {
+                    // Change the colours of all alarm sensitive components
+                    if (isBackColorAlarmSensitive) {
+                        editpart.getFigure().setBackgroundColor(calculateBackColor());
+                    }
+                    if (isForeColorAlarmSensitive) {
+                        editpart.getFigure().setForegroundColor(calculateForeColor());
+                    }
                 }
             }
-        });
-        scheduledFuture = ExecutionService
-                .getInstance()
-                .getScheduledExecutorService()
-                .scheduleAtFixedRate(pulsingTask, PreferencesHelper.getGUIRefreshCycle(),
-                        PreferencesHelper.getGUIRefreshCycle(),
-                        TimeUnit.MILLISECONDS);
+        };
+        if (!suspended) {
+            AnimationClock.getInstance().register(pulsingAnimation);
+        }
+    }
+
+    private synchronized void pausePulsing() {
+        if (pulsingAnimation != null) {
+            AnimationClock.getInstance().unregister(pulsingAnimation);
+        }
+    }
+
+    private synchronized void resumePulsing() {
+        if (pulsingAnimation != null) {
+            AnimationClock.getInstance().register(pulsingAnimation);
+        }
     }
 
     private void saveFigureOKStatus(IFigure figure) {
@@ -669,6 +783,16 @@ public class PVWidgetEditpartDelegate implements IPVWidgetEditpart {
         this.ignoreOldPVValue = ignoreOldValue;
     }
 
+    /**
+     * Set whether PV updates may be paused while the widget is not showing. Must be called before the PVs are started.
+     *
+     * @param suspendable
+     *            false if the widget needs every value, not only the latest one.
+     */
+    public void setSuspendable(boolean suspendable) {
+        this.suspendable = suspendable;
+    }
+
     @Override
     public String[] getAllPVNames() {
         if (editpart.getWidgetModel().getPVMap().isEmpty()) {
@@ -0,0 +1,18 @@
+package org.csstudio.opibuilder.editparts;
+
+/**
+ * Interface for listening to a widget being hidden or shown again, for example to pause its animations.
+ *
+ * @see AbstractBaseEditPart#addVisibilityListener(WidgetVisibilityListener)
+ */
+public interface WidgetVisibilityListener {
+
+    /**
+     * This method is called on the UI thread when the widget is scrolled out of view, is in an inactive tab or in a
+     * hidden display, and when it is shown again.
+     *
+     * @param showing
+     *            whether the widget is now visible on screen.
+     */
+    public void visibilityChanged(boolean showing);
+}
@@ -0,0 +1,150 @@
+package org.csstudio.opibuilder.editparts;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.csstudio.opibuilder.preferences.PreferencesHelper;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.EditPartViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Listener;
+
+/**
+ * Tracks which PV widgets of a viewer are currently visible, so that widgets that are scrolled out of view, in an
+ * inactive tab, or in a hidden display can pause the handling of their PV updates. Other widgets can pause their
+ * animations by adding a {@link WidgetVisibilityListener}.
+ * <p>
+ * Visibility is checked after the viewer control was painted, which resumes widgets as soon as they are shown, and
+ * periodically, which detects displays that were hidden without being painted again. All methods must be called on the
+ * UI thread.
+ */
+class WidgetVisibilityTracker {
+
+    private static class ListenerEntry {
+
+        final AbstractBaseEditPart editpart;
+        boolean showing = true;
+
+        ListenerEntry(AbstractBaseEditPart editpart) {
+            this.editpart = editpart;
+        }
+    }
+
+    private static final String DATA_KEY = WidgetVisibilityTracker.class.getName();
+
+    private static final int CHECK_INTERVAL = 500;
+
+    private final Control control;
+    private final long releaseDelay;
+    private final Set<PVWidgetEditpartDelegate> delegates = new LinkedHashSet<>();
+    private final Map<WidgetVisibilityListener, ListenerEntry> listeners = new LinkedHashMap<>();
+
+    private final Listener paintListener = evt -> scheduleCheck();
+    private final Runnable periodicCheck = this::runPeriodicCheck;
+    private boolean checkScheduled = false;
+
+    private WidgetVisibilityTracker(Control control) {
+        this.control = control;
+        int releaseDelaySeconds = PreferencesHelper.getOffscreenPVReleaseDelay();
+        releaseDelay = releaseDelaySeconds >= 0 ? releaseDelaySeconds * 1000L : -1;
+        control.addListener(SWT.Paint, paintListener);
+        control.addListener(SWT.Dispose, evt -> {
+            control.getDisplay().timerExec(-1, periodicCheck);
+            delegates.clear();
+            listeners.clear();
+        });
+        control.getDisplay().timerExec(CHECK_INTERVAL, periodicCheck);
+    }
+
+    /**
+     * Returns the tracker of the control of the given viewer, or null if there is no control.
+     */
+    static WidgetVisibilityTracker get(EditPartViewer viewer) {
+        Control control = viewer != null ? viewer.getControl() : null;
+        if (control == null || control.isDisposed()) {
+            return null;
+        }
+        WidgetVisibilityTracker tracker = (WidgetVisibilityTracker) control.getData(DATA_KEY);
+        if (tracker == null) {
+            tracker = new WidgetVisibilityTracker(control);
+            control.setData(DATA_KEY, tracker);
+        }
+        return tracker;
+    }
+
+    void register(PVWidgetEditpartDelegate delegate) {
+        delegates.add(delegate);
+        scheduleCheck();
+    }
+
+    void unregister(PVWidgetEditpartDelegate delegate) {
+        delegates.remove(delegate);
+    }
+
+    /**
+     * Adds a listener that is notified when the given widget is hidden or shown again. The widget is assumed to be
+     * showing until notified otherwise.
+     */
+    void addVisibilityListener(AbstractBaseEditPart editpart, WidgetVisibilityListener listener) {
+        listeners.put(listener, new ListenerEntry(editpart));
+        scheduleCheck();
+    }
+
+    void removeVisibilityListener(WidgetVisibilityListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void scheduleCheck() {
+        if (!checkScheduled) {
+            checkScheduled = true;
+            control.getDisplay().asyncExec(() -> {
+                checkScheduled = false;
+                check();
+            });
+        }
+    }
+
+    private void runPeriodicCheck() {
+        if (!control.isDisposed()) {
+            check();
+            control.getDisplay().timerExec(CHECK_INTERVAL, periodicCheck);
+        }
+    }
+
+    private void check() {
+        if (control.isDisposed() || (delegates.isEmpty() && listeners.isEmpty())) {
+            return;
+        }
+        boolean controlShowing = control.isVisible() && !control.getShell().getMinimized();
+        Rectangle clientArea = new Rectangle(control.getClientArea());
+        long now = System.currentTimeMillis();
+
+        // Copy, because resuming a widget may activate or deactivate others
+        for (PVWidgetEditpartDelegate delegate : delegates.toArray(new PVWidgetEditpartDelegate[delegates.size()])) {
+            boolean showing = controlShowing && isShowing(delegate.getEditPart().getFigure(), clientArea);
+            delegate.setShowing(showing, now, releaseDelay);
+        }
+        for (Map.Entry<VisibilityListener, ListenerEntry> entry : new ArrayList<>(listeners.entrySet())) {
+            ListenerEntry listenerEntry = entry.getValue();
+            boolean showing = controlShowing && isShowing(listenerEntry.editpart.getFigure(), clientArea);
+            if (showing != listenerEntry.showing && listeners.get(entry.getKey()) == listenerEntry) {
+                listenerEntry.showing = showing;
+                entry.getKey().visibilityChanged(showing);
+            }
+        }
+    }
+
+    private static boolean isShowing(IFigure figure, Rectangle clientArea) {
+        if (!figure.isShowing()) {
+            return false;
+        }
+        Rectangle bounds = figure.getBounds().getCopy();
+        figure.translateToAbsolute(bounds);
+        return bounds.intersects(clientArea);
+    }
+}
@@ -104,6 +104,23 @@ public abstract class AbstractContainerModel extends AbstractWidgetModel {
         addChild(child, true);
     }
 
+    /**Add children at the given positions, firing a single change of the children list, so that
+     * edit parts refresh their children once rather than once per child. Not for layout widgets.
+     * @param indexes the index of each child in the children list after insertion, in ascending order.
+     * @param children the widgets to be added.
+     */
+    public synchronized void addChildren(int[] indexes, List<AbstractWidgetModel> children){
+        ArrayList<AbstractWidgetModel> oldList = new ArrayList<AbstractWidgetModel>(childrenList);
+        for (int i = 0; i < indexes.length; i++) {
+            AbstractWidgetModel child = children.get(i);
+            if (child != null && !childrenList.contains(child)) {
+                childrenList.add(indexes[i], child);
+                child.setParent(this);
+            }
+        }
+        childrenProperty.firePropertyChange(oldList, children);
+    }
+
     public synchronized void addChild(int index, AbstractWidgetModel child){
         if(index < 0){
             addChild(child);
@@ -0,0 +1,117 @@
+package org.csstudio.opibuilder.persistence;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.csstudio.opibuilder.util.ResourceUtil;
+import org.eclipse.core.runtime.IPath;
+import org.jdom.Element;
+import org.jdom.input.SAXBuilder;
+
+/**
+ * Cache of parsed OPI files, so that an OPI that is linked or opened many times is only parsed once.
+ * <p>
+ * Entries are keyed by resolved path, and are parsed again when the modification stamp of the file changes (see
+ * {@link ResourceUtil#getModificationStamp(IPath)}). The cached XML is shared, and must not be modified. Widget models
+ * are still built separately for each use, so that macros are substituted per instance.
+ */
+public class OPIDocumentCache {
+
+    private static final Logger log = Logger.getLogger(OPIDocumentCache.class.getName());
+
+    private static final int MAX_ENTRIES = 100;
+
+    private static OPIDocumentCache instance;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private long hitCount;
+    private long missCount;
+
+    private OPIDocumentCache() {
+    }
+
+    public synchronized static OPIDocumentCache getInstance() {
+        if (instance == null) {
+            instance = new OPIDocumentCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the root element of the OPI file on the given path, parsing it if it is not cached or if the file was
+     * modified.
+     *
+     * @param path
+     *            the resolved path of the OPI file
+     * @return the root element. This must not be modified.
+     */
+    public Element getRootElement(IPath path) throws Exception {
+        String key = path.toString();
+        long stamp = ResourceUtil.getModificationStamp(path);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.stamp == stamp) {
+                hitCount++;
+                return entry.root;
+            }
+            missCount++;
+        }
+
+        long t0 = System.currentTimeMillis();
+        Element root;
+        try (InputStream in = ResourceUtil.pathToInputStream(path)) {
+            SAXBuilder saxBuilder = LineAwareXMLParser.createBuilder();
+            root = saxBuilder.build(in).getRootElement();
+        }
+        log.fine(String.format("Parsed %s in %d ms", path, System.currentTimeMillis() - t0));
+
+        synchronized (this) {
+            entries.put(key, new Entry(stamp, root));
+        }
+        return root;
+    }
+
+    /**
+     * Removes all cached documents.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("documents=%d, hits=%d, misses=%d", entries.size(), hitCount, missCount);
+    }
+
+    private static final class Entry {
+        final long stamp;
+        final Element root;
+
+        Entry(long stamp, Element root) {
+            this.stamp = stamp;
+            this.root = root;
+        }
+    }
+}
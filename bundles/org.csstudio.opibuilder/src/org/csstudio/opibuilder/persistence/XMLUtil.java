@@ -229,13 +229,45 @@ public class XMLUtil {
     private static void fillDisplayModelFromInputStreamSub(
             final InputStream inputStream, final DisplayModel displayModel, Display display, List<IPath> trace,
             final MacrosInput macrosInput_) throws Exception {
+        try {
+            fillDisplayModelFromXMLSub(inputStreamToXML(inputStream), displayModel, display, trace, macrosInput_);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Fill the DisplayModel from an OPI file. The parsed file is shared through the {@link OPIDocumentCache}, so that
+     * repeated loads of an unmodified file do not parse it again.
+     * 
+     * @param path
+     *            the resolved path of the OPI file.
+     * @param displayModel.
+     *            The {@link DisplayModel} to be filled.
+     * @param display
+     *            the display in UI Thread.
+     * @param macrosInput_
+     *            additional macros, may be null.
+     * @throws Exception
+     */
+    public static void fillDisplayModelFromPath(final IPath path, final DisplayModel displayModel, Display display,
+            final MacrosInput macrosInput_) throws Exception {
+        fillDisplayModelFromPathSub(path, displayModel, display, new ArrayList<IPath>(), macrosInput_);
+    }
+
+    private static void fillDisplayModelFromPathSub(final IPath path, final DisplayModel displayModel,
+            Display display, List<IPath> trace, final MacrosInput macrosInput_) throws Exception {
+        Element root = OPIDocumentCache.getInstance().getRootElement(path);
+        fillDisplayModelFromXMLSub(root, displayModel, display, trace, macrosInput_);
+    }
+
+    private static void fillDisplayModelFromXMLSub(final Element root, final DisplayModel displayModel,
+            Display display, List<IPath> trace, final MacrosInput macrosInput_) throws Exception {
 
         if (display == null) {
             display = Display.getCurrent();
         }
-        IPath opiPath = displayModel.getOpiFilePath();
 
-        Element root = inputStreamToXML(inputStream);
         if (root != null) {
             XMLElementToWidgetSub(root, displayModel, trace, macrosInput_);
 
@@ -259,7 +291,6 @@ public class XMLUtil {
             }
 
         }
-        inputStream.close();
     }
 
     /**
@@ -530,8 +561,7 @@ public class XMLUtil {
                 inside.setParentDisplayModel(container.getRootDisplayModel());
 
                 try {
-                    fillDisplayModelFromInputStreamSub(ResourceUtil.pathToInputStream(path), inside,
-                            Display.getCurrent(), trace, macrosInput_);
+                    fillDisplayModelFromPathSub(path, inside, Display.getCurrent(), trace, macrosInput_);
                 } catch (Exception ex) {
                     OPIBuilderPlugin.getLogger().log(Level.WARNING, "Failed to load LinkingContainer opi_file " + path,
                             ex);
@@ -97,6 +97,26 @@ public class OPIRuntimePreferencePage extends FieldEditorPreferencePage
                 "The fastest refresh cycle for OPI GUI in millisecond");
         addField(guiRefreshCycleEditor);
 
+        IntegerFieldEditor pvNotificationThreadsEditor = new IntegerFieldEditor(
+                PreferencesHelper.PV_NOTIFICATION_THREADS, "PV notification threads", parent);
+        pvNotificationThreadsEditor.setValidRange(1, 64);
+        pvNotificationThreadsEditor.getTextControl(parent).setToolTipText(
+                "Number of threads that handle PV updates of OPI widgets. " +
+                        "Updates of the same PV are always handled in order. Requires a restart.");
+        addField(pvNotificationThreadsEditor);
+
+        BooleanFieldEditor suspendOffscreenEditor = new BooleanFieldEditor(
+                PreferencesHelper.SUSPEND_OFFSCREEN_WIDGETS, "Pause updates of widgets that are not visible", parent);
+        addField(suspendOffscreenEditor);
+
+        IntegerFieldEditor offscreenReleaseDelayEditor = new IntegerFieldEditor(
+                PreferencesHelper.OFFSCREEN_PV_RELEASE_DELAY, "Disconnect PVs of widgets not visible for (s)", parent);
+        offscreenReleaseDelayEditor.setValidRange(-1, 86400);
+        offscreenReleaseDelayEditor.getTextControl(parent).setToolTipText(
+                "Stop the PVs of widgets that have not been visible for this many seconds. " +
+                        "Use -1 to keep them connected. Applies to displays opened afterwards.");
+        addField(offscreenReleaseDelayEditor);
+
         IntegerFieldEditor pulsingMinorPeriodFieldEditor = new IntegerFieldEditor(
                 PreferencesHelper.PULSING_ALARM_MINOR_PERIOD,
                 "Time period of MINOR alarm if pulsing alarm selected (ms)", parent);
@@ -46,6 +46,9 @@ public class PreferencesHelper {
     public static final String SHOW_FULLSCREEN_DIALOG = "show_fullscreen_dialog";
     public static final String PULSING_ALARM_MINOR_PERIOD = "pulsing_alarm_minor_period";
     public static final String PULSING_ALARM_MAJOR_PERIOD = "pulsing_alarm_major_period";
+    public static final String PV_NOTIFICATION_THREADS = "pv_notification_threads";
+    public static final String SUSPEND_OFFSCREEN_WIDGETS = "suspend_offscreen_widgets";
+    public static final String OFFSCREEN_PV_RELEASE_DELAY = "offscreen_pv_release_delay";
 
     // The widgets that are hidden from palette.
     public static final String HIDDEN_WIDGETS = "hidden_widgets";
@@ -101,6 +104,25 @@ public class PreferencesHelper {
         return service.getInt(OPIBuilderPlugin.PLUGIN_ID, OPI_GUI_REFRESH_CYCLE, 100, null);
     }
 
+    public static Integer getPVNotificationThreadCount() {
+        IPreferencesService service = Platform.getPreferencesService();
+        return service.getInt(OPIBuilderPlugin.PLUGIN_ID, PV_NOTIFICATION_THREADS, 1, null);
+    }
+
+    public static boolean isSuspendOffscreenWidgets() {
+        IPreferencesService service = Platform.getPreferencesService();
+        return service.getBoolean(OPIBuilderPlugin.PLUGIN_ID, SUSPEND_OFFSCREEN_WIDGETS, true, null);
+    }
+
+    /**
+     * @return the time in seconds after which PVs of widgets that are not showing are stopped. Negative if they should
+     *         not be stopped.
+     */
+    public static int getOffscreenPVReleaseDelay() {
+        IPreferencesService service = Platform.getPreferencesService();
+        return service.getInt(OPIBuilderPlugin.PLUGIN_ID, OFFSCREEN_PV_RELEASE_DELAY, -1, null);
+    }
+
     public static Integer getPulsingAlarmMinorPeriod() {
         IPreferencesService service = Platform.getPreferencesService();
         return service.getInt(OPIBuilderPlugin.PLUGIN_ID, PULSING_ALARM_MINOR_PERIOD, 3000, null);
@@ -79,7 +79,7 @@ public class OPIRunner extends EditorPart implements IOPIRuntime {
     public void createPartControl(final Composite parent) {
         opiRuntimeDelegate.createGUI(parent);
         // if this is the first OPI in this window, resize the window to match the OPI size.
-        Display.getCurrent().asyncExec(() -> {
+        Display.getCurrent().asyncExec(() -> opiRuntimeDelegate.runWhenLoaded(() -> {
             if (getSite().getWorkbenchWindow().getActivePage()
                     .getEditorReferences().length == 1 &&
                     getSite().getWorkbenchWindow().getActivePage().getViewReferences().length == 0) {
@@ -97,7 +97,7 @@ public class OPIRunner extends EditorPart implements IOPIRuntime {
                 parent.getShell().setSize(bounds.width + trimWidth,
                         bounds.height + trimHeight);
             }
-        });
+        }));
 
     }
 
@@ -20,6 +20,10 @@ import org.csstudio.ui.util.CustomMediaFactory;
 import org.csstudio.ui.util.Draw2dSingletonUtil;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.draw2d.ConnectionLayer;
 import org.eclipse.draw2d.UpdateListener;
 import org.eclipse.draw2d.UpdateManager;
@@ -28,6 +32,7 @@ import org.eclipse.e4.ui.model.application.ui.basic.MPart;
 import org.eclipse.gef.ContextMenuProvider;
 import org.eclipse.gef.DragTracker;
 import org.eclipse.gef.EditDomain;
+import org.eclipse.gef.GraphicalEditPart;
 import org.eclipse.gef.GraphicalViewer;
 import org.eclipse.gef.LayerConstants;
 import org.eclipse.gef.MouseWheelHandler;
@@ -80,6 +85,21 @@ public class OPIRuntimeDelegate implements IAdaptable {
         e.gc.drawString("Failed to load opi " + getEditorInput(), 0, 0);
     };
 
+    private PaintListener loadingPaintListener = e -> {
+        e.gc.setForeground(CustomMediaFactory.getInstance().getColor(128,
+                128, 128));
+        e.gc.drawString("Loading " + getEditorInput().getName() + "...", 0, 0);
+    };
+
+    /**
+     * Builds the display model in the background, if any.
+     */
+    private Job loadJob;
+
+    private List<Runnable> loadedCallbacks = new ArrayList<>();
+
+    private boolean frameRateListenerInstalled;
+
     private ZoomManager zoomManager;
 
     public OPIRuntimeDelegate(IOPIRuntime opiRuntime) {
@@ -91,6 +111,11 @@ public class OPIRuntimeDelegate implements IAdaptable {
         setEditorInput(input);
         if (viewer != null) {
             viewer.getControl().removePaintListener(errorMessagePaintListener);
+            viewer.getControl().removePaintListener(loadingPaintListener);
+        }
+        if (loadJob != null) {
+            loadJob.cancel();
+            loadJob = null;
         }
 
         displayModel = new DisplayModel(getOPIFilePath());
@@ -100,8 +125,13 @@ public class OPIRuntimeDelegate implements IAdaptable {
         try {
             if (input instanceof IRunnerInput) {
                 IRunnerInput run_input = (IRunnerInput) input;
-                inputStream = run_input.getInputStream();
                 displayOpenManager = run_input.getDisplayOpenManager();
+                IPath opiPath = displayModel.getOpiFilePath();
+                if (opiPath != null) {
+                    loadInBackground(opiPath, run_input);
+                } else {
+                    inputStream = run_input.getInputStream();
+                }
             } else {
                 inputStream = ResourceUtil.getInputStreamFromEditorInput(input);
             }
@@ -124,17 +154,110 @@ public class OPIRuntimeDelegate implements IAdaptable {
 
         // if it was an opened editor
         if (viewer != null && displayModelFilled) {
-            viewer.setContents(displayModel);
+            showContents();
             updateEditorTitle();
-            displayModel.setViewer(viewer);
-            displayModel.setOpiRuntime(opiRuntime);
         }
 
         getActionRegistry().registerAction(new RefreshOPIAction(opiRuntime));
         getActionRegistry().registerAction(new PrintDisplayAction(opiRuntime));
 
-        // hide close button
+        if (loadJob == null) {
+            // hide close button
+            hideCloseButton(site);
+        }
+    }
+
+    /**
+     * Parses the OPI file and builds the display model on a worker thread. The viewer shows a placeholder until the
+     * model is complete.
+     */
+    private void loadInBackground(IPath opiPath, IRunnerInput input) {
+        final Display display = Display.getCurrent();
+        final DisplayModel model = displayModel;
+        loadJob = new Job("Loading " + input.getName()) {
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                try {
+                    // Reuses the parsed file if it was not modified since it was last loaded
+                    XMLUtil.fillDisplayModelFromPath(opiPath, model, display, input.getMacrosInput());
+                } catch (Exception e) {
+                    display.asyncExec(() -> {
+                        if (model == displayModel) {
+                            loadJob = null;
+                            ErrorHandlerUtil.handleError("Failed to open opi file: " + input, e, true, true);
+                            if (viewer != null) {
+                                viewer.getControl().removePaintListener(loadingPaintListener);
+                                viewer.getControl().addPaintListener(errorMessagePaintListener);
+                                viewer.getControl().redraw();
+                            }
+                            // The view is still placed and sized, as if it had been loaded
+                            runLoadedCallbacks();
+                        }
+                    });
+                    return Status.OK_STATUS;
+                }
+                if (!monitor.isCanceled()) {
+                    display.asyncExec(() -> {
+                        if (model == displayModel) {
+                            displayModelLoaded();
+                        }
+                    });
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        loadJob.setPriority(Job.INTERACTIVE);
+        loadJob.schedule();
+    }
+
+    /**
+     * Completes initialization once the display model was built in the background. Called in the UI thread.
+     */
+    private void displayModelLoaded() {
+        loadJob = null;
+        addRunnerInputMacros(getEditorInput());
+        displayModelFilled = true;
+        updateEditorTitle();
         hideCloseButton(site);
+        if (viewer != null && !viewer.getControl().isDisposed()) {
+            viewer.getControl().removePaintListener(loadingPaintListener);
+            showContents();
+            installFrameRateListener();
+        }
+
+        runLoadedCallbacks();
+    }
+
+    private void runLoadedCallbacks() {
+        List<Runnable> callbacks = new ArrayList<>(loadedCallbacks);
+        loadedCallbacks.clear();
+        callbacks.forEach(Runnable::run);
+    }
+
+    /**
+     * Runs the given task once the display model is complete. If the model is already complete, or could not be
+     * loaded, the task runs immediately.
+     */
+    public void runWhenLoaded(Runnable task) {
+        if (loadJob == null) {
+            task.run();
+        } else {
+            loadedCallbacks.add(task);
+        }
+    }
+
+    /**
+     * Shows the display model in the viewer. For larger displays, widgets are added in slices, so that the UI remains
+     * responsive and the widgets in view are created (and connect their PVs) first.
+     */
+    private void showContents() {
+        displayModel.setViewer(viewer);
+        displayModel.setOpiRuntime(opiRuntime);
+        if (ProgressiveActivation.isApplicable(displayModel)) {
+            new ProgressiveActivation(viewer, displayModel).start();
+        } else {
+            viewer.setContents(displayModel);
+        }
     }
 
     public void createGUI(Composite parent) {
@@ -193,10 +316,10 @@ public class OPIRuntimeDelegate implements IAdaptable {
 
         opiRuntime.getSite().registerContextMenu(cmProvider, viewer);
         if (displayModelFilled) {
-            viewer.setContents(displayModel);
-            displayModel.setViewer(viewer);
-            displayModel.setOpiRuntime(opiRuntime);
+            showContents();
             updateEditorTitle();
+        } else if (loadJob != null) {
+            viewer.getControl().addPaintListener(loadingPaintListener);
         }
 
         zoomManager = root.getZoomManager();
@@ -235,36 +358,45 @@ public class OPIRuntimeDelegate implements IAdaptable {
          * repainting of the other widget, which is different from our intuition. Thus, you have to be careful about the
          * meaning of "frame rate" calculated by the following code.
          */
-        if (displayModelFilled && displayModel.isFreshRateEnabled()) {
-            UpdateManager updateManager = root.getFigure().getUpdateManager();
-            updateManager.addUpdateListener(new UpdateListener() {
-
-                private long updateCycle = -1; // in milliseconds
-                private Date previousDate = null;
-
-                @Override
-                public void notifyPainting(Rectangle damage,
-                        @SuppressWarnings("rawtypes") Map dirtyRegions) {
-                    Date currentDate = new Date();
-
-                    if (previousDate == null) {
-                        previousDate = currentDate;
-                        return;
-                    }
-
-                    synchronized (previousDate) {
-                        updateCycle = currentDate.getTime() - previousDate.getTime();
-                        displayModel.setFrameRate(1000.0 / updateCycle);
-                        previousDate = currentDate;
-                    }
+        if (displayModelFilled) {
+            installFrameRateListener();
+        }
+    }
+
+    private void installFrameRateListener() {
+        if (frameRateListenerInstalled || !displayModel.isFreshRateEnabled()) {
+            return;
+        }
+        frameRateListenerInstalled = true;
+        UpdateManager updateManager = ((GraphicalEditPart) viewer.getRootEditPart()).getFigure()
+                .getUpdateManager();
+        updateManager.addUpdateListener(new UpdateListener() {
+
+            private long updateCycle = -1; // in milliseconds
+            private Date previousDate = null;
+
+            @Override
+            public void notifyPainting(Rectangle damage,
+                    @SuppressWarnings("rawtypes") Map dirtyRegions) {
+                Date currentDate = new Date();
+
+                if (previousDate == null) {
+                    previousDate = currentDate;
+                    return;
                 }
 
-                @Override
-                public void notifyValidating() {
-                    // Do nothing
+                synchronized (previousDate) {
+                    updateCycle = currentDate.getTime() - previousDate.getTime();
+                    displayModel.setFrameRate(1000.0 / updateCycle);
+                    previousDate = currentDate;
                 }
-            });
-        }
+            }
+
+            @Override
+            public void notifyValidating() {
+                // Do nothing
+            }
+        });
     }
 
     private void updateEditorTitle() {
@@ -409,6 +541,11 @@ public class OPIRuntimeDelegate implements IAdaptable {
      * Dispose of all resources.
      */
     public void dispose() {
+        if (loadJob != null) {
+            loadJob.cancel();
+            loadJob = null;
+        }
+        loadedCallbacks.clear();
         getActionRegistry().dispose();
         if (displayOpenManager != null) {
             displayOpenManager.dispose();
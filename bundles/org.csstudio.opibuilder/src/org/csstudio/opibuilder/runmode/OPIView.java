@@ -260,6 +260,10 @@ public class OPIView extends ViewPart implements IOPIRuntime {
      * If the model location has negative values or is (0, 0), position within the parent window.
      */
     public void positionFromModel() {
+        opiRuntimeDelegate.runWhenLoaded(this::doPositionFromModel);
+    }
+
+    private void doPositionFromModel() {
         Composite parent = getSite().getShell();
         final Rectangle bounds = getBounds();
         // Resize to that of model from OPI
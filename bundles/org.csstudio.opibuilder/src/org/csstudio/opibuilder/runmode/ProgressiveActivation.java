@@ -0,0 +1,138 @@
+package org.csstudio.opibuilder.runmode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.csstudio.opibuilder.model.AbstractWidgetModel;
+import org.csstudio.opibuilder.model.DisplayModel;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.GraphicalViewer;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Control;
+
+/**
+ * Shows a display by adding its top-level widgets to the viewer in slices, each limited by a time budget. Widgets in
+ * the visible area are added (and so connect their PVs) first. The stacking order of widgets is preserved.
+ * <p>
+ * The widgets of a slice are added at once, so that the viewer refreshes its children once per slice. The size of the
+ * next slice is adapted to the time the previous one took.
+ * <p>
+ * Only used for displays where the order of widget creation cannot matter: no scripts, no connections and no layout
+ * widget.
+ */
+class ProgressiveActivation implements Runnable {
+
+    private static final int MIN_WIDGET_COUNT = 50;
+    private static final long SLICE_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final int INITIAL_SLICE_SIZE = 16;
+
+    private final GraphicalViewer viewer;
+    private final DisplayModel displayModel;
+
+    private List<AbstractWidgetModel> widgets;
+    private boolean[] added;
+    private Integer[] creationOrder;
+    private int next;
+    private int sliceSize = INITIAL_SLICE_SIZE;
+
+    ProgressiveActivation(GraphicalViewer viewer, DisplayModel displayModel) {
+        this.viewer = viewer;
+        this.displayModel = displayModel;
+    }
+
+    static boolean isApplicable(DisplayModel displayModel) {
+        if (displayModel.getChildren().size() < MIN_WIDGET_COUNT || displayModel.getLayoutWidget() != null
+                || hasScripts(displayModel)) {
+            return false;
+        }
+        for (AbstractWidgetModel widget : displayModel.getAllDescendants()) {
+            if (hasScripts(widget)
+                    || !widget.getSourceConnections().isEmpty()
+                    || !widget.getTargetConnections().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasScripts(AbstractWidgetModel widget) {
+        return !widget.getScriptsInput().getScriptList().isEmpty();
+    }
+
+    /**
+     * Sets the display as viewer contents, and schedules the addition of its widgets. Must be called in the UI
+     * thread.
+     */
+    void start() {
+        widgets = new ArrayList<>(displayModel.getChildren());
+        added = new boolean[widgets.size()];
+
+        Rectangle visibleArea = getVisibleArea();
+        creationOrder = new Integer[widgets.size()];
+        for (int i = 0; i < creationOrder.length; i++) {
+            creationOrder[i] = i;
+        }
+        // Stable sort, visible widgets first
+        Arrays.sort(creationOrder, Comparator.comparing(
+                i -> !visibleArea.intersects(widgets.get(i).getBounds())));
+
+        displayModel.removeAllChildren();
+        viewer.setContents(displayModel);
+        viewer.getControl().getDisplay().asyncExec(this);
+    }
+
+    private Rectangle getVisibleArea() {
+        Control control = viewer.getControl();
+        Point size = control.getSize();
+        if (size.x == 0 || size.y == 0) { // Not yet laid out
+            org.eclipse.swt.graphics.Rectangle screen = control.getDisplay().getBounds();
+            return new Rectangle(0, 0, screen.width, screen.height);
+        }
+        return new Rectangle(0, 0, size.x, size.y);
+    }
+
+    @Override
+    public void run() {
+        Control control = viewer.getControl();
+        EditPart contents = viewer.getContents();
+        if (control == null || control.isDisposed() || contents == null || contents.getModel() != displayModel) {
+            return; // Closed or reloaded
+        }
+
+        long start = System.nanoTime();
+        List<Integer> slice = new ArrayList<>(sliceSize);
+        while (next < creationOrder.length && slice.size() < sliceSize) {
+            int index = creationOrder[next++];
+            added[index] = true;
+            slice.add(index);
+        }
+        Collections.sort(slice);
+
+        // Position of each widget among the widgets added so far, including this slice
+        int[] positions = new int[slice.size()];
+        List<AbstractWidgetModel> children = new ArrayList<>(slice.size());
+        int position = 0;
+        for (int i = 0, s = 0; s < positions.length; i++) {
+            if (i == slice.get(s)) {
+                positions[s++] = position;
+                children.add(widgets.get(i));
+            }
+            if (added[i]) {
+                position++;
+            }
+        }
+        displayModel.addChildren(positions, children);
+
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        sliceSize = (int) Math.max(1, Math.min(sliceSize * 4L, sliceSize * SLICE_BUDGET_NANOS / elapsed));
+
+        if (next < creationOrder.length) {
+            control.getDisplay().asyncExec(this);
+        }
+    }
+}
@@ -136,12 +136,7 @@ public abstract class AbstractScriptStore implements IScriptStore {
         } else if (scriptData.isEmbedded()) {
             compileString(scriptData.getScriptText());
         } else {
-            // read file
-            InputStream inputStream = ResourceUtil.pathToInputStream(absoluteScriptPath);
-
-            // compile
-            compileInputStream(inputStream);
-            inputStream.close();
+            compileFile(absoluteScriptPath);
         }
 
         pvListenerMap = new HashMap<>();
@@ -201,6 +196,17 @@ public abstract class AbstractScriptStore implements IScriptStore {
      */
     protected abstract void compileInputStream(InputStream s) throws Exception;
 
+    /**
+     * Compile the script file with script engine. The default implementation reads the file, and passes it to
+     * {@link #compileInputStream(InputStream)}. Subclasses may override this to reuse an earlier compilation of the same
+     * file.
+     */
+    protected void compileFile(IPath absolutePath) throws Exception {
+        InputStream inputStream = ResourceUtil.pathToInputStream(absolutePath);
+        compileInputStream(inputStream);
+        inputStream.close();
+    }
+
     /**
      * Execute the script with script engine.
      * 
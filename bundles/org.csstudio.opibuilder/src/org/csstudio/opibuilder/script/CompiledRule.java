@@ -0,0 +1,658 @@
+package org.csstudio.opibuilder.script;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.csstudio.opibuilder.properties.AbstractWidgetProperty;
+import org.csstudio.opibuilder.properties.BooleanProperty;
+import org.csstudio.opibuilder.properties.DoubleProperty;
+import org.csstudio.opibuilder.properties.IntegerProperty;
+import org.csstudio.opibuilder.scriptUtil.PVUtil;
+import org.yamcs.studio.data.IPV;
+
+/**
+ * A {@link RuleData} compiled to an expression tree, so that it can be evaluated without a script engine.
+ * <p>
+ * Only the subset of JavaScript that is typically used in rule expressions is supported: the input variables
+ * <code>pvN</code>, <code>pvIntN</code>, <code>pvStrN</code> and <code>pvSevN</code>, number, string and boolean
+ * literals, arithmetic, comparison and boolean operators, and parentheses. Operands must be of the same type, so that
+ * no JavaScript coercion rules are needed. Rules that use anything else are not compiled, and run through the
+ * generated script instead.
+ */
+public class CompiledRule {
+
+    private static final Pattern PV_VARIABLE = Pattern.compile("pv(Int|Str|Sev)?(\\d+)");
+
+    private final String propId;
+    private final Node[] conditions;
+    private final Object[] values;
+    private final Node[] valueExpressions;
+    private final Object defaultValue;
+
+    private CompiledRule(String propId, Node[] conditions, Object[] values, Node[] valueExpressions,
+            Object defaultValue) {
+        this.propId = propId;
+        this.conditions = conditions;
+        this.values = values;
+        this.valueExpressions = valueExpressions;
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Compiles a rule.
+     *
+     * @return the compiled rule, or <code>null</code> if the rule uses unsupported syntax.
+     */
+    public static CompiledRule compile(RuleData ruleData) {
+        List<Expression> expressions = ruleData.getExpressionList();
+        AbstractWidgetProperty property = ruleData.getProperty();
+        if (expressions.isEmpty() || property == null) {
+            return null;
+        }
+
+        Type outputType = null;
+        if (ruleData.isOutputExpValue()) {
+            if (property instanceof IntegerProperty || property instanceof DoubleProperty) {
+                outputType = Type.NUMBER;
+            } else if (property instanceof BooleanProperty) {
+                outputType = Type.BOOLEAN;
+            } else { // JavaScript string conversion is not replicated
+                return null;
+            }
+        }
+
+        int pvCount = ruleData.getPVList().size();
+        Node[] conditions = new Node[expressions.size()];
+        Object[] values = new Object[expressions.size()];
+        Node[] valueExpressions = ruleData.isOutputExpValue() ? new Node[expressions.size()] : null;
+        try {
+            for (int i = 0; i < expressions.size(); i++) {
+                Expression exp = expressions.get(i);
+                conditions[i] = new Parser(exp.getBooleanExpression(), pvCount).parse();
+                if (outputType != null) {
+                    valueExpressions[i] = new Parser(String.valueOf(exp.getValue()), pvCount).parse();
+                    if (valueExpressions[i].type != outputType) {
+                        return null;
+                    }
+                } else {
+                    values[i] = exp.getValue();
+                }
+            }
+        } catch (UnsupportedExpressionException e) {
+            return null;
+        }
+
+        return new CompiledRule(ruleData.getPropId(), conditions, values, valueExpressions,
+                property.getPropertyValue());
+    }
+
+    public String getPropId() {
+        return propId;
+    }
+
+    /**
+     * Evaluates the conditions in order, and returns the property value of the first one that holds, or the default
+     * property value if none holds.
+     */
+    public Object evaluate(IPV[] pvs) {
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].truthy(pvs)) {
+                return valueExpressions != null ? valueExpressions[i].value(pvs) : values[i];
+            }
+        }
+        return defaultValue;
+    }
+
+    private enum Type {
+        NUMBER, STRING, BOOLEAN
+    }
+
+    private static class UnsupportedExpressionException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedExpressionException(String message) {
+            super(message);
+        }
+    }
+
+    private abstract static class Node {
+
+        final Type type;
+
+        Node(Type type) {
+            this.type = type;
+        }
+
+        double number(IPV[] pvs) {
+            throw new UnsupportedOperationException();
+        }
+
+        String string(IPV[] pvs) {
+            throw new UnsupportedOperationException();
+        }
+
+        boolean bool(IPV[] pvs) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * JavaScript truthiness, as used by an if-condition.
+         */
+        boolean truthy(IPV[] pvs) {
+            switch (type) {
+            case BOOLEAN:
+                return bool(pvs);
+            case NUMBER:
+                double d = number(pvs);
+                return d != 0 && !Double.isNaN(d);
+            default:
+                String s = string(pvs);
+                return s != null && !s.isEmpty();
+            }
+        }
+
+        Object value(IPV[] pvs) {
+            switch (type) {
+            case BOOLEAN:
+                return bool(pvs);
+            case NUMBER:
+                return number(pvs);
+            default:
+                return string(pvs);
+            }
+        }
+    }
+
+    private static class NumberNode extends Node {
+        final double value;
+
+        NumberNode(double value) {
+            super(Type.NUMBER);
+            this.value = value;
+        }
+
+        @Override
+        double number(IPV[] pvs) {
+            return value;
+        }
+    }
+
+    private static class StringNode extends Node {
+        final String value;
+
+        StringNode(String value) {
+            super(Type.STRING);
+            this.value = value;
+        }
+
+        @Override
+        String string(IPV[] pvs) {
+            return value;
+        }
+    }
+
+    private static class BooleanNode extends Node {
+        final boolean value;
+
+        BooleanNode(boolean value) {
+            super(Type.BOOLEAN);
+            this.value = value;
+        }
+
+        @Override
+        boolean bool(IPV[] pvs) {
+            return value;
+        }
+    }
+
+    private static class PVNode extends Node {
+        final String kind;
+        final int index;
+
+        PVNode(String kind, int index) {
+            super("Str".equals(kind) ? Type.STRING : Type.NUMBER);
+            this.kind = kind;
+            this.index = index;
+        }
+
+        @Override
+        double number(IPV[] pvs) {
+            if (kind == null) {
+                return PVUtil.getDouble(pvs[index]);
+            } else if (kind.equals("Int")) {
+                return PVUtil.getLong(pvs[index]);
+            } else {
+                return PVUtil.getSeverity(pvs[index]);
+            }
+        }
+
+        @Override
+        String string(IPV[] pvs) {
+            return PVUtil.getString(pvs[index]);
+        }
+    }
+
+    private static class NotNode extends Node {
+        final Node operand;
+
+        NotNode(Node operand) {
+            super(Type.BOOLEAN);
+            this.operand = operand;
+        }
+
+        @Override
+        boolean bool(IPV[] pvs) {
+            return !operand.bool(pvs);
+        }
+    }
+
+    private static class NegateNode extends Node {
+        final Node operand;
+
+        NegateNode(Node operand) {
+            super(Type.NUMBER);
+            this.operand = operand;
+        }
+
+        @Override
+        double number(IPV[] pvs) {
+            return -operand.number(pvs);
+        }
+    }
+
+    private static class LogicalNode extends Node {
+        final boolean and;
+        final Node left;
+        final Node right;
+
+        LogicalNode(boolean and, Node left, Node right) {
+            super(Type.BOOLEAN);
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean bool(IPV[] pvs) {
+            return and ? left.bool(pvs) && right.bool(pvs) : left.bool(pvs) || right.bool(pvs);
+        }
+    }
+
+    private static class ArithmeticNode extends Node {
+        final char operator;
+        final Node left;
+        final Node right;
+
+        ArithmeticNode(Type type, char operator, Node left, Node right) {
+            super(type);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double number(IPV[] pvs) {
+            double l = left.number(pvs);
+            double r = right.number(pvs);
+            switch (operator) {
+            case '+':
+                return l + r;
+            case '-':
+                return l - r;
+            case '*':
+                return l * r;
+            case '/':
+                return l / r;
+            default:
+                return l % r;
+            }
+        }
+
+        @Override
+        String string(IPV[] pvs) { // Only '+'
+            return left.string(pvs) + right.string(pvs);
+        }
+    }
+
+    private static class ComparisonNode extends Node {
+        final String operator;
+        final Node left;
+        final Node right;
+
+        ComparisonNode(String operator, Node left, Node right) {
+            super(Type.BOOLEAN);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean bool(IPV[] pvs) {
+            switch (left.type) {
+            case NUMBER:
+                double l = left.number(pvs);
+                double r = right.number(pvs);
+                switch (operator) {
+                case "==":
+                case "===":
+                    return l == r;
+                case "!=":
+                case "!==":
+                    return l != r;
+                case "<":
+                    return l < r;
+                case "<=":
+                    return l <= r;
+                case ">":
+                    return l > r;
+                default:
+                    return l >= r;
+                }
+            case STRING:
+                String ls = left.string(pvs);
+                String rs = right.string(pvs);
+                switch (operator) {
+                case "==":
+                case "===":
+                    return Objects.equals(ls, rs);
+                case "!=":
+                case "!==":
+                    return !Objects.equals(ls, rs);
+                }
+                if (ls == null || rs == null) {
+                    return false;
+                }
+                switch (operator) {
+                case "<":
+                    return ls.compareTo(rs) < 0;
+                case "<=":
+                    return ls.compareTo(rs) <= 0;
+                case ">":
+                    return ls.compareTo(rs) > 0;
+                default:
+                    return ls.compareTo(rs) >= 0;
+                }
+            default:
+                boolean lb = left.bool(pvs);
+                boolean rb = right.bool(pvs);
+                return (operator.startsWith("=")) ? lb == rb : lb != rb;
+            }
+        }
+    }
+
+    /**
+     * Recursive descent parser, following JavaScript operator precedence.
+     */
+    private static class Parser {
+
+        private final String text;
+        private final int pvCount;
+        private int pos;
+
+        Parser(String text, int pvCount) {
+            this.text = text;
+            this.pvCount = pvCount;
+        }
+
+        Node parse() throws UnsupportedExpressionException {
+            Node node = parseOr();
+            skipWhitespace();
+            if (pos < text.length()) {
+                throw unsupported();
+            }
+            return node;
+        }
+
+        private Node parseOr() throws UnsupportedExpressionException {
+            Node node = parseAnd();
+            while (accept("||")) {
+                node = new LogicalNode(false, requireBoolean(node), requireBoolean(parseAnd()));
+            }
+            return node;
+        }
+
+        private Node parseAnd() throws UnsupportedExpressionException {
+            Node node = parseEquality();
+            while (accept("&&")) {
+                node = new LogicalNode(true, requireBoolean(node), requireBoolean(parseEquality()));
+            }
+            return node;
+        }
+
+        private Node parseEquality() throws UnsupportedExpressionException {
+            Node node = parseRelational();
+            while (true) {
+                String operator = accept("===") ? "===" : accept("!==") ? "!==" : accept("==") ? "=="
+                        : accept("!=") ? "!=" : null;
+                if (operator == null) {
+                    return node;
+                }
+                Node right = parseRelational();
+                requireSameType(node, right);
+                node = new ComparisonNode(operator, node, right);
+            }
+        }
+
+        private Node parseRelational() throws UnsupportedExpressionException {
+            Node node = parseAdditive();
+            while (true) {
+                String operator = accept("<=") ? "<=" : accept(">=") ? ">=" : accept("<") ? "<"
+                        : accept(">") ? ">" : null;
+                if (operator == null) {
+                    return node;
+                }
+                Node right = parseAdditive();
+                requireSameType(node, right);
+                if (node.type == Type.BOOLEAN) {
+                    throw unsupported();
+                }
+                node = new ComparisonNode(operator, node, right);
+            }
+        }
+
+        private Node parseAdditive() throws UnsupportedExpressionException {
+            Node node = parseMultiplicative();
+            while (true) {
+                if (accept("+")) {
+                    Node right = parseMultiplicative();
+                    requireSameType(node, right);
+                    if (node.type == Type.BOOLEAN) {
+                        throw unsupported();
+                    }
+                    node = new ArithmeticNode(node.type, '+', node, right);
+                } else if (accept("-")) {
+                    node = new ArithmeticNode(Type.NUMBER, '-', requireNumber(node),
+                            requireNumber(parseMultiplicative()));
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseMultiplicative() throws UnsupportedExpressionException {
+            Node node = parseUnary();
+            while (true) {
+                char operator = accept("*") ? '*' : accept("/") ? '/' : accept("%") ? '%' : 0;
+                if (operator == 0) {
+                    return node;
+                }
+                node = new ArithmeticNode(Type.NUMBER, operator, requireNumber(node), requireNumber(parseUnary()));
+            }
+        }
+
+        private Node parseUnary() throws UnsupportedExpressionException {
+            if (accept("!")) {
+                return new NotNode(requireBoolean(parseUnary()));
+            } else if (accept("-")) {
+                return new NegateNode(requireNumber(parseUnary()));
+            } else if (accept("+")) {
+                return requireNumber(parseUnary());
+            }
+            return parsePrimary();
+        }
+
+        private Node parsePrimary() throws UnsupportedExpressionException {
+            skipWhitespace();
+            if (pos >= text.length()) {
+                throw unsupported();
+            }
+            char c = text.charAt(pos);
+            if (c == '(') {
+                pos++;
+                Node node = parseOr();
+                if (!accept(")")) {
+                    throw unsupported();
+                }
+                return node;
+            } else if (c == '"' || c == '\'') {
+                return parseString(c);
+            } else if (Character.isDigit(c) || c == '.') {
+                return parseNumber();
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = pos;
+                while (pos < text.length() && Character.isJavaIdentifierPart(text.charAt(pos))) {
+                    pos++;
+                }
+                String identifier = text.substring(start, pos);
+                if (identifier.equals("true") || identifier.equals("false")) {
+                    return new BooleanNode(Boolean.parseBoolean(identifier));
+                }
+                Matcher matcher = PV_VARIABLE.matcher(identifier);
+                if (matcher.matches()) {
+                    int index = Integer.parseInt(matcher.group(2));
+                    if (index < pvCount) {
+                        return new PVNode(matcher.group(1), index);
+                    }
+                }
+            }
+            throw unsupported();
+        }
+
+        private Node parseNumber() throws UnsupportedExpressionException {
+            int start = pos;
+            while (pos < text.length()) {
+                char c = text.charAt(pos);
+                if (Character.isDigit(c) || c == '.') {
+                    pos++;
+                } else if ((c == 'e' || c == 'E') && pos + 1 < text.length()) {
+                    pos++;
+                    if (text.charAt(pos) == '+' || text.charAt(pos) == '-') {
+                        pos++;
+                    }
+                } else {
+                    break;
+                }
+            }
+            if (pos < text.length() && Character.isJavaIdentifierPart(text.charAt(pos))) {
+                throw unsupported(); // Hex, octal, ...
+            }
+            try {
+                return new NumberNode(Double.parseDouble(text.substring(start, pos)));
+            } catch (NumberFormatException e) {
+                throw unsupported();
+            }
+        }
+
+        private Node parseString(char quote) throws UnsupportedExpressionException {
+            StringBuilder buf = new StringBuilder();
+            pos++;
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == quote) {
+                    return new StringNode(buf.toString());
+                } else if (c == '\\') {
+                    if (pos >= text.length()) {
+                        break;
+                    }
+                    char escaped = text.charAt(pos++);
+                    switch (escaped) {
+                    case '\\':
+                    case '"':
+                    case '\'':
+                        buf.append(escaped);
+                        break;
+                    case 'n':
+                        buf.append('\n');
+                        break;
+                    case 't':
+                        buf.append('\t');
+                        break;
+                    default:
+                        throw unsupported();
+                    }
+                } else {
+                    buf.append(c);
+                }
+            }
+            throw unsupported();
+        }
+
+        private boolean accept(String token) {
+            skipWhitespace();
+            if (text.startsWith(token, pos)) {
+                // Do not split longer operators, such as '<=' into '<' and '='
+                int end = pos + token.length();
+                if (end < text.length() && isOperatorContinuation(token, text.charAt(end))) {
+                    return false;
+                }
+                pos = end;
+                return true;
+            }
+            return false;
+        }
+
+        private static boolean isOperatorContinuation(String token, char next) {
+            switch (token) {
+            case "<":
+            case ">":
+            case "==":
+            case "!=":
+                return next == '=';
+            case "!":
+                return next == '=';
+            case "+":
+                return next == '+' || next == '=';
+            case "-":
+                return next == '-' || next == '=';
+            case "*":
+            case "/":
+            case "%":
+                return next == '=' || next == '*' || next == '/';
+            default:
+                return false;
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private Node requireBoolean(Node node) throws UnsupportedExpressionException {
+            if (node.type != Type.BOOLEAN) {
+                throw unsupported();
+            }
+            return node;
+        }
+
+        private Node requireNumber(Node node) throws UnsupportedExpressionException {
+            if (node.type != Type.NUMBER) {
+                throw unsupported();
+            }
+            return node;
+        }
+
+        private void requireSameType(Node left, Node right) throws UnsupportedExpressionException {
+            if (left.type != right.type) {
+                throw unsupported();
+            }
+        }
+
+        private UnsupportedExpressionException unsupported() {
+            return new UnsupportedExpressionException("Unsupported rule expression: " + text);
+        }
+    }
+}
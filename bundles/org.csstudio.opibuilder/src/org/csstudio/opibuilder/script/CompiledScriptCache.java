@@ -0,0 +1,143 @@
+package org.csstudio.opibuilder.script;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+import org.csstudio.opibuilder.util.ResourceUtil;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Cache of compiled scripts, shared between all widgets that use the same script.
+ * <p>
+ * Script files are cached by engine and absolute path, and are recompiled when the modification stamp of the file
+ * changes (see {@link ResourceUtil#getModificationStamp(IPath)}). Embedded scripts and rules are cached by engine and
+ * script text. The least recently used entries are dropped when the cache is full.
+ */
+public class CompiledScriptCache {
+
+    private static final int MAX_ENTRIES = 500;
+
+    private static CompiledScriptCache instance;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private long hitCount;
+    private long missCount;
+
+    private CompiledScriptCache() {
+    }
+
+    public synchronized static CompiledScriptCache getInstance() {
+        if (instance == null) {
+            instance = new CompiledScriptCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the compiled script file, compiling it if it is not cached or if the file was modified.
+     *
+     * @param engine
+     *            the engine that the compiled script belongs to
+     * @param absolutePath
+     *            absolute path of the script file
+     * @param compiler
+     *            compiles the script file on a cache miss
+     */
+    public <T> T get(Object engine, IPath absolutePath, Callable<T> compiler) throws Exception {
+        long stamp = ResourceUtil.getModificationStamp(absolutePath);
+        return get(new Key(engine, absolutePath.toString()), stamp, compiler);
+    }
+
+    /**
+     * Returns the compiled script text, compiling it if it is not cached.
+     *
+     * @param engine
+     *            the engine that the compiled script belongs to
+     * @param source
+     *            the script text
+     * @param compiler
+     *            compiles the script text on a cache miss
+     */
+    public <T> T get(Object engine, String source, Callable<T> compiler) throws Exception {
+        return get(new Key(engine, source), 0, compiler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, long stamp, Callable<T> compiler) throws Exception {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.stamp == stamp) {
+                hitCount++;
+                return (T) entry.compiled;
+            }
+            missCount++;
+        }
+
+        // Compile outside the lock. Concurrent misses for the same key at most compile twice.
+        T compiled = compiler.call();
+        synchronized (this) {
+            entries.put(key, new Entry(stamp, compiled));
+        }
+        return compiled;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private static final class Key {
+        final Object engine;
+        final String id;
+
+        Key(Object engine, String id) {
+            this.engine = engine;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return engine == other.engine && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(engine), id);
+        }
+    }
+
+    private static final class Entry {
+        final long stamp;
+        final Object compiled;
+
+        Entry(long stamp, Object compiled) {
+            this.stamp = stamp;
+            this.compiled = compiled;
+        }
+    }
+}
@@ -3,8 +3,6 @@ package org.csstudio.opibuilder.script;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 
 import javax.script.Bindings;
@@ -14,14 +12,22 @@ import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
 import org.csstudio.opibuilder.editparts.AbstractBaseEditPart;
+import org.csstudio.opibuilder.util.ResourceUtil;
+import org.eclipse.core.runtime.IPath;
 import org.yamcs.studio.data.IPV;
 
 /**
  * This is the implementation of {@link AbstractScriptStore} for the default javascript script engine embedded in Java.
  * (Nashorn since Java 8).
+ * <p>
+ * Compiled scripts are shared between all widgets using the same script (see {@link CompiledScriptCache}), but each
+ * store evaluates them in its own bindings. Top-level variables of a script are therefore kept between executions,
+ * and are not visible to other widgets.
  */
 public class JavaScriptStore extends AbstractScriptStore {
 
+    private static String bootstrapSource;
+
     private ScriptEngine engine;
     private Bindings bindings;
     private CompiledScript script;
@@ -42,23 +48,52 @@ public class JavaScriptStore extends AbstractScriptStore {
         bootstrapScriptEngine(engine, bindings);
     }
 
+    /**
+     * Evaluates the bootstrap script in the given bindings. The bootstrap is compiled once per engine, and shared by all
+     * bindings.
+     */
     public static void bootstrapScriptEngine(ScriptEngine engine, Bindings bindings)
             throws IOException, ScriptException {
-        String nashornBootstrap = "/org/csstudio/opibuilder/script/nashorn_bootstrap.js";
-        try (Reader in = new InputStreamReader(JavaScriptStore.class.getResourceAsStream(nashornBootstrap))) {
-            engine.eval(in, bindings);
+        String source = getBootstrapSource();
+        CompiledScript bootstrap;
+        try {
+            bootstrap = CompiledScriptCache.getInstance().get(engine, source,
+                    () -> ((Compilable) engine).compile(source));
+        } catch (ScriptException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ScriptException(e);
+        }
+        bootstrap.eval(bindings);
+    }
+
+    private static synchronized String getBootstrapSource() throws IOException {
+        if (bootstrapSource == null) {
+            String nashornBootstrap = "/org/csstudio/opibuilder/script/nashorn_bootstrap.js";
+            bootstrapSource = readString(JavaScriptStore.class.getResourceAsStream(nashornBootstrap))
+                    + "\nimportPackage(Packages.org.csstudio.opibuilder.scriptUtil);"
+                    + "\nimportPackage(Packages.org.yamcs.studio.script);\n";
         }
-        engine.eval("importPackage(Packages.org.csstudio.opibuilder.scriptUtil);", bindings);
-        engine.eval("importPackage(Packages.org.yamcs.studio.script);", bindings);
+        return bootstrapSource;
     }
 
     @Override
     protected void compileString(String string) throws Exception {
-        script = ((Compilable) engine).compile(string);
+        script = CompiledScriptCache.getInstance().get(engine, string, () -> ((Compilable) engine).compile(string));
+    }
+
+    @Override
+    protected void compileFile(IPath absolutePath) throws Exception {
+        script = CompiledScriptCache.getInstance().get(engine, absolutePath,
+                () -> ((Compilable) engine).compile(readString(ResourceUtil.pathToInputStream(absolutePath))));
     }
 
     @Override
     protected void compileInputStream(InputStream in) throws Exception {
+        script = ((Compilable) engine).compile(readString(in));
+    }
+
+    private static String readString(InputStream in) throws IOException {
         ByteArrayOutputStream bout = new ByteArrayOutputStream();
         try {
             byte[] buffer = new byte[1024];
@@ -69,9 +104,7 @@ public class JavaScriptStore extends AbstractScriptStore {
         } finally {
             in.close();
         }
-
-        String content = bout.toString(StandardCharsets.UTF_8.name());
-        script = ((Compilable) engine).compile(content);
+        return bout.toString(StandardCharsets.UTF_8.name());
     }
 
     @Override
@@ -63,7 +63,16 @@ public class JythonScriptStore extends AbstractScriptStore {
 
     @Override
     protected void compileString(String string) throws Exception {
-        code = interp.compile(string);
+        code = CompiledScriptCache.getInstance().get(PythonInterpreter.class, string, () -> interp.compile(string));
+    }
+
+    @Override
+    protected void compileFile(IPath absolutePath) throws Exception {
+        code = CompiledScriptCache.getInstance().get(PythonInterpreter.class, absolutePath, () -> {
+            try (InputStream in = ResourceUtil.pathToInputStream(absolutePath)) {
+                return interp.compile(new InputStreamReader(in));
+            }
+        });
     }
 
     @Override
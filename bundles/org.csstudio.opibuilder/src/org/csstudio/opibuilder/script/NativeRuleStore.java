@@ -0,0 +1,40 @@
+package org.csstudio.opibuilder.script;
+
+import java.io.InputStream;
+
+import org.csstudio.opibuilder.editparts.AbstractBaseEditPart;
+import org.yamcs.studio.data.IPV;
+
+/**
+ * Implementation of {@link AbstractScriptStore} for rules that were compiled to a {@link CompiledRule}. This avoids
+ * the creation of script engine bindings, and the compilation of a generated script, for each rule.
+ */
+public class NativeRuleStore extends AbstractScriptStore {
+
+    private CompiledRule compiledRule;
+
+    public NativeRuleStore(RuleScriptData scriptData, AbstractBaseEditPart editpart, IPV[] pvArray)
+            throws Exception {
+        super(scriptData, editpart, pvArray);
+    }
+
+    @Override
+    protected void initScriptEngine() throws Exception {
+        compiledRule = ((RuleScriptData) getScriptData()).getCompiledRule();
+    }
+
+    @Override
+    protected void compileString(String string) throws Exception {
+        // Already compiled
+    }
+
+    @Override
+    protected void compileInputStream(InputStream s) throws Exception {
+        s.close();
+    }
+
+    @Override
+    protected void execScript(IPV triggerPV) throws Exception {
+        getEditPart().setPropertyValue(compiledRule.getPropId(), compiledRule.evaluate(getPvArray()));
+    }
+}
@@ -243,12 +243,18 @@ public class RuleData implements IAdaptable{
 
     /**Convert this {@link RuleData} to {@link RuleScriptData} so
      * that the scriptEngine code can be reused for running rules.
+     * Rules that can be compiled to a {@link CompiledRule} are evaluated
+     * without script engine.
      * @return
      */
     public RuleScriptData convertToScriptData(){
         RuleScriptData ruleScriptData  = new RuleScriptData(this);
         ruleScriptData.setPVList(pvList);
-        ruleScriptData.setScriptString(generateScript());
+        CompiledRule compiledRule = CompiledRule.compile(this);
+        if(compiledRule != null)
+            ruleScriptData.setCompiledRule(compiledRule);
+        else
+            ruleScriptData.setScriptString(generateScript());
         return ruleScriptData;
     }
 
@@ -17,6 +17,7 @@ public class RuleScriptData extends ScriptData {
 
     private String scriptString;
     private RuleData ruleData;
+    private CompiledRule compiledRule;
 
 
     public RuleScriptData(RuleData ruleData) {
@@ -41,6 +42,20 @@ public class RuleScriptData extends ScriptData {
         this.scriptString = scriptString;
     }
 
+    /**
+     * @return the natively compiled rule, or null if the rule must be run as script.
+     */
+    public CompiledRule getCompiledRule() {
+        return compiledRule;
+    }
+
+    /**
+     * @param compiledRule the natively compiled rule
+     */
+    public void setCompiledRule(CompiledRule compiledRule) {
+        this.compiledRule = compiledRule;
+    }
+
     public void setPVList(List<PVTuple> pvList){
         this.pvList = pvList;
     }
@@ -103,6 +103,9 @@ public class ScriptStoreFactory {
         if (!scriptData.isEmbedded() &&
                 (scriptData.getPath() == null || scriptData.getPath().getFileExtension() == null)) {
             if (scriptData instanceof RuleScriptData) {
+                if (((RuleScriptData) scriptData).getCompiledRule() != null) {
+                    return new NativeRuleStore((RuleScriptData) scriptData, editpart, pvArray);
+                }
                 return getJavaScriptStore(scriptData, editpart, pvArray);
             } else {
                 throw new RuntimeException("No Script Engine for this type of script");
@@ -207,11 +207,10 @@ public class PVUtil {
         if (wrappedArray != null && wrappedArray instanceof long[]) {
             return (long[]) wrappedArray;
         }
-        double[] dblArray = VTypeHelper.getDoubleArray(value);
-        long[] longArray = new long[dblArray.length];
-        int i = 0;
-        for (double d : dblArray) {
-            longArray[i++] = (long) d;
+        ListNumber list = VTypeHelper.getNumberList(value);
+        long[] longArray = new long[list.size()];
+        for (int i = 0; i < longArray.length; i++) {
+            longArray[i] = list.getLong(i);
         }
         return longArray;
     }
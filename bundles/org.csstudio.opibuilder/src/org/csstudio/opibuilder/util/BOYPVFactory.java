@@ -1,12 +1,10 @@
 package org.csstudio.opibuilder.util;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
 import org.csstudio.opibuilder.preferences.PreferencesHelper;
 import org.yamcs.studio.data.ExceptionHandler;
 import org.yamcs.studio.data.IPV;
 import org.yamcs.studio.data.PVFactory;
+import org.yamcs.studio.data.StripedExecutor;
 
 /**
  * The factory to create a PV for BOY. It will create either Utility PV or PVManager PV which depends on the preference
@@ -15,29 +13,40 @@ import org.yamcs.studio.data.PVFactory;
 public class BOYPVFactory {
 
     /**
-     * The default background thread for PV change event notification.
+     * The background threads for PV change event notification. Each PV is pinned to one thread, based on its name.
      */
-    private final static ExecutorService BOY_PV_THREAD = Executors
-            .newSingleThreadExecutor();
+    private static StripedExecutor BOY_PV_THREADS;
 
     private final static ExceptionHandler exceptionHandler = ex -> ErrorHandlerUtil
             .handleError("Error from pv connection layer: ", ex);
 
     /**
-     * Create a PV. If it is using PV Manager, max update rate is determined by GUI Refresh cycle.
+     * Create a PV. Max update rate is determined by GUI Refresh cycle.
      */
     public static IPV createPV(String name) throws Exception {
         return createPV(name, PreferencesHelper.getGUIRefreshCycle());
     }
 
     /**
-     * Create a PV based on PV connection layer preference.
+     * Create a PV whose value updates are coalesced to at most one notification per update duration.
      * 
      * @param updateDuration
-     *            the fastest update duration.
+     *            the fastest update duration in milliseconds.
      */
     public static IPV createPV(String name, int updateDuration) throws Exception {
         PVFactory pvFactory = PVFactory.getInstance();
-        return pvFactory.createPV(name, false, BOY_PV_THREAD, exceptionHandler);
+        return pvFactory.createPV(name, false, getNotificationThreads().getLane(name), exceptionHandler,
+                updateDuration);
+    }
+
+    /**
+     * The number of threads is read from preferences on first use. Changes require a restart.
+     */
+    private static synchronized StripedExecutor getNotificationThreads() {
+        if (BOY_PV_THREADS == null) {
+            BOY_PV_THREADS = new StripedExecutor("BOY PV Notification",
+                    PreferencesHelper.getPVNotificationThreadCount());
+        }
+        return BOY_PV_THREADS;
     }
 }
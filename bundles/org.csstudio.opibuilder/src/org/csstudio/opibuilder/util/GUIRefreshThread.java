@@ -14,6 +14,7 @@ import java.util.logging.Level;
 import org.csstudio.opibuilder.OPIBuilderPlugin;
 import org.csstudio.opibuilder.datadefinition.WidgetIgnorableUITask;
 import org.csstudio.opibuilder.preferences.PreferencesHelper;
+import org.csstudio.ui.util.thread.UIBatchExecutor;
 import org.eclipse.swt.widgets.Display;
 
 /**
@@ -47,12 +48,10 @@ public final class GUIRefreshThread implements Runnable {
 
     private long start;
 
-    private volatile boolean asyncEmpty = true;
-
-    private Runnable resetAsyncEmpty;
-
     private Display rcpDisplay;
 
+    private UIBatchExecutor batchExecutor;
+
     private boolean isRuntime;
 
     /**
@@ -63,13 +62,8 @@ public final class GUIRefreshThread implements Runnable {
         rcpDisplay = DisplayUtils.getDisplay();
 		ignorableTasksQueue = new LinkedHashSet<>();
 		nonIgnorableTasksQueue = new ConcurrentLinkedQueue<>();
-        resetAsyncEmpty = new Runnable() {
-            @Override
-            public void run() {
-                asyncEmpty = true;
-            }
-        };
         reLoadGUIRefreshCycle();
+        batchExecutor = new UIBatchExecutor(rcpDisplay, guiRefreshCycle / 2);
         thread = new Thread(this, "OPI GUI Refresh Thread");
         thread.start();
     }
@@ -145,39 +139,41 @@ public final class GUIRefreshThread implements Runnable {
     }
 
     /**
-     * Process the complete queue in RCP.
+     * Process the complete queue in RCP. All tasks are handed to the UI thread as one batch.
      */
     private void rcpProcessQueue() {
         // avoid add too many stuff to Display async queue.
-        if (!asyncEmpty)
+        // Ignorable tasks remain queued (and get replaced) until the previous batch is done.
+        if (!batchExecutor.isIdle())
             return;
-        asyncEmpty = false;
-		Object[] ignorableTasksArray;
-		Object[] nonIgnorableTasksArray;
+        Runnable[] batch;
         // copy the tasks queue.
         synchronized (this) {
-            ignorableTasksArray = ignorableTasksQueue.toArray();
+            batch = new Runnable[ignorableTasksQueue.size() + nonIgnorableTasksQueue.size()];
+            int i = 0;
+            for (WidgetIgnorableUITask task : ignorableTasksQueue) {
+                batch[i++] = task.getRunnableTask();
+            }
 			ignorableTasksQueue.clear();
-			nonIgnorableTasksArray = nonIgnorableTasksQueue.toArray();
-			nonIgnorableTasksQueue.clear();
+            WidgetIgnorableUITask task;
+            while (i < batch.length && (task = nonIgnorableTasksQueue.poll()) != null) {
+                batch[i++] = task.getRunnableTask();
+            }
         }
         if (rcpDisplay == null || rcpDisplay.isDisposed())
             return;
-        for (Object o : ignorableTasksArray) {
-            try {
-                rcpDisplay.asyncExec(((WidgetIgnorableUITask)o).getRunnableTask());
-            } catch (Exception e) {
-                OPIBuilderPlugin.getLogger().log(Level.WARNING, "Display has been disposed.", e);
-            }
+        try {
+            batchExecutor.execute(batch);
+        } catch (Exception e) {
+            OPIBuilderPlugin.getLogger().log(Level.WARNING, "Display has been disposed.", e);
         }
-		for (Object o : nonIgnorableTasksArray) {
-			try {
-				rcpDisplay.asyncExec(((WidgetIgnorableUITask)o).getRunnableTask());
-			} catch (Exception e) {
-				OPIBuilderPlugin.getLogger().log(Level.WARNING, "Display has been disposed.", e);
-			}
-		}
-        rcpDisplay.asyncExec(resetAsyncEmpty);
+    }
+
+    /**
+     * Returns the executor that flushes GUI refresh tasks to the UI thread. Can be used to inspect batch statistics.
+     */
+    public UIBatchExecutor getBatchExecutor() {
+        return batchExecutor;
     }
 
     /**
@@ -13,6 +13,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -142,6 +144,35 @@ public class ResourceUtil {
         }
     }
 
+    /**
+     * Returns a stamp that changes whenever the file on the specified path is modified. This can be used to validate
+     * cached information derived from the file.
+     *
+     * @param path
+     *            The {@link IPath} to the file in the workspace, the local file system, or a platform URL
+     * @return the modification stamp, or <code>0</code> if the file is not expected to change (platform URLs) or does
+     *         not exist.
+     */
+    public static long getModificationStamp(IPath path) {
+        IFile workspaceFile = getIFileFromIPath(path);
+        if (workspaceFile != null && workspaceFile.exists()) {
+            return workspaceFile.getModificationStamp();
+        }
+
+        File localFile = path.toFile();
+        if (localFile.getPath().startsWith("file:")) {
+            localFile = new File(localFile.getPath().substring(5));
+        } else if (localFile.getPath().startsWith("platform:")) {
+            return 0;
+        }
+        try {
+            // Finer than File.lastModified(), which is in seconds on some platforms
+            return Files.getLastModifiedTime(localFile.toPath()).to(TimeUnit.MICROSECONDS);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
     /**
      * Returns a stream which can be used to read this editors input data.
      * 
@@ -191,6 +191,23 @@ public class ColorMap {
      */
     public ImageData drawImage(IPrimaryArrayWrapper dataArray,
             int dataWidth, int dataHeight, double max, double min, ImageData imageData, boolean shrink){
+        return drawImage(dataArray, dataWidth, dataHeight, max, min, imageData, shrink, false);
+    }
+
+    /**Calculate the image data from source data based on the color map.
+     * @param dataArray the source data
+     * @param dataWidth number of columns of dataArray; This will be the width of image data.
+     * @param dataHeight number of rows of dataArray; This will be the height of image data.
+     * @param max the upper limit of the data in dataArray
+     * @param min the lower limit of the data in dataArray
+     * @param imageData the imageData to be filled. null if a new instance should be created.
+     * @param shrink true if area size of image data is smaller than dataWidth*dataHeight.
+     * @param areaAveraging if shrinking, true to color each pixel by the average of the data it covers,
+     * false to use the nearest neighbor.
+     * @return the image data. null if dataWidth or dataHeight is less than 1.
+     */
+    public ImageData drawImage(IPrimaryArrayWrapper dataArray, int dataWidth, int dataHeight,
+            double max, double min, ImageData imageData, boolean shrink, boolean areaAveraging){
         if(dataWidth <1 || dataHeight < 1 || dataWidth *dataHeight > dataArray.getSize()|| dataWidth * dataHeight < 0)
             return null;
         if(imageData == null)
@@ -202,47 +219,72 @@ public class ColorMap {
             min = colorMapMin;
             max = colorMapMax;
         }
-            if(shrink){
-                int height = imageData.height;
-                int width = imageData.width;
-                    // EDIT: added +1 to account for an early rounding problem
-                    int x_ratio = (int)((dataWidth<<16)/width) +1;
-                    int y_ratio = (int)((dataHeight<<16)/height) +1;
-                    //int x_ratio = (int)((w1<<16)/w2) ;
-                    //int y_ratio = (int)((h1<<16)/h2) ;
-                    int x2, y2 ;
-                    for (int i=0;i<height;i++) {
-                        for (int j=0;j<width;j++) {
-                            x2 = ((j*x_ratio)>>16) ;
-                            y2 = ((i*y_ratio)>>16) ;
-                            int index = (int) ((dataArray.get(y2 * dataWidth + x2) - min) / (max - min) * 255);
-                            if (index < 0)
-                                index = 0;
-                            else if (index > 255)
-                                index = 255;
-                            int pixel = pixelLookupTable[index];
-                            imageData.setPixel(j,i,pixel); ;
+
+        int[] lookupTable = pixelLookupTable;
+        double offset = min;
+        double scale = 255 / (max - min);
+        int width = imageData.width;
+        int height = imageData.height;
+        if(!shrink){
+            ImageRasterizer.fill(imageData, () -> {
+                double[] row = new double[dataWidth];
+                return (y, pixels) -> {
+                    dataArray.get(y * dataWidth, row, 0, dataWidth);
+                    for (int x = 0; x < dataWidth; x++)
+                        pixels[x] = lookupTable[toIndex(row[x], offset, scale)];
+                };
+            });
+        }else if(areaAveraging){
+            int[] xStarts = ImageRasterizer.areaBoundaries(dataWidth, width);
+            int[] yStarts = ImageRasterizer.areaBoundaries(dataHeight, height);
+            ImageRasterizer.fill(imageData, () -> {
+                double[] row = new double[dataWidth];
+                double[] sums = new double[width];
+                return (y, pixels) -> {
+                    Arrays.fill(sums, 0);
+                    int yEnd = Math.max(yStarts[y + 1], yStarts[y] + 1);
+                    for (int y2 = yStarts[y]; y2 < yEnd; y2++) {
+                        dataArray.get(y2 * dataWidth, row, 0, dataWidth);
+                        for (int x = 0; x < width; x++) {
+                            int xEnd = Math.max(xStarts[x + 1], xStarts[x] + 1);
+                            for (int x2 = xStarts[x]; x2 < xEnd; x2++)
+                                sums[x] += row[x2];
                         }
                     }
-
-
-            }else{
-                for (int y = 0; y < dataHeight; y++) {
-                    for (int x = 0; x < dataWidth; x++) {
-                        // the index of the value in the color table array
-                        int index = (int) ((dataArray.get(y * dataWidth + x) - min) / (max - min) * 255);
-                        if (index < 0)
-                            index = 0;
-                        else if (index > 255)
-                            index = 255;
-                        int pixel = pixelLookupTable[index];
-                        imageData.setPixel(x, y, pixel);
+                    int rowCount = yEnd - yStarts[y];
+                    for (int x = 0; x < width; x++) {
+                        int count = rowCount * (Math.max(xStarts[x + 1], xStarts[x] + 1) - xStarts[x]);
+                        pixels[x] = lookupTable[toIndex(sums[x] / count, offset, scale)];
                     }
-                }
-            }
-
+                };
+            });
+        }else{
+            // Nearest neighbor, see http://tech-algorithm.com/articles/nearest-neighbor-image-scaling/
+            // EDIT: added +1 to account for an early rounding problem
+            int x_ratio = (int)((dataWidth<<16)/width) +1;
+            int y_ratio = (int)((dataHeight<<16)/height) +1;
+            int[] xSources = new int[width];
+            for (int x = 0; x < width; x++)
+                xSources[x] = (x * x_ratio) >> 16;
+            ImageRasterizer.fill(imageData, () -> {
+                double[] row = new double[dataWidth];
+                return (y, pixels) -> {
+                    dataArray.get(((y * y_ratio) >> 16) * dataWidth, row, 0, dataWidth);
+                    for (int x = 0; x < width; x++)
+                        pixels[x] = lookupTable[toIndex(row[xSources[x]], offset, scale)];
+                };
+            });
+        }
+        return imageData;
+    }
 
-            return imageData;
+    private static int toIndex(double value, double offset, double scale) {
+        int index = (int) ((value - offset) * scale);
+        if (index < 0)
+            return 0;
+        else if (index > 255)
+            return 255;
+        return index;
     }
 
     /**Calculate the image data from source data based on the color map.
@@ -0,0 +1,216 @@
+package org.csstudio.swt.widgets.datadefinition;
+
+import java.util.Arrays;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.CircularBufferDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.figures.Axis;
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * A {@link CircularBufferDataProvider} that can present a decimated view of its buffer to the trace, so that the cost
+ * of painting depends on the width of the plot rather than on the size of the buffer.
+ * <p>
+ * Consecutive samples that fall in the same pixel column of the x axis are reduced to the first, the lowest, the
+ * highest and the last of them. This keeps the shape of line plots, including spikes. Samples with a NaN coordinate
+ * are always kept, so that gaps remain visible.
+ * <p>
+ * The view is recomputed on the first access after the data changed, or after the x axis was zoomed, panned or
+ * resized. {@link #getRawSize()} and {@link #getRawSample(int)} always give access to the full buffer.
+ */
+public class DecimatingDataProvider extends CircularBufferDataProvider {
+
+    // Below this many samples per pixel column, decimating does not pay off
+    private static final int MIN_SAMPLES_PER_COLUMN = 4;
+
+    private boolean decimated = false;
+    private Axis xAxis;
+
+    private volatile boolean dataChanged = true;
+    private boolean viewActive = false;
+    private ISample[] view = new ISample[0];
+    private int viewSize;
+
+    // The x axis mapping that the view was computed for
+    private double viewLower = Double.NaN;
+    private double viewUpper = Double.NaN;
+    private int viewLowerPosition;
+    private int viewUpperPosition;
+
+    public DecimatingDataProvider(boolean chronological) {
+        super(chronological);
+    }
+
+    public boolean isDecimated() {
+        return decimated;
+    }
+
+    /**
+     * @param decimated
+     *            true if the trace should only see the decimated samples.
+     */
+    public void setDecimated(boolean decimated) {
+        synchronized (this) {
+            if (this.decimated == decimated) {
+                return;
+            }
+            this.decimated = decimated;
+            dataChanged = true;
+        }
+        fireDataChange();
+    }
+
+    /**
+     * @param xAxis
+     *            the axis whose pixel columns are used for decimating.
+     */
+    public synchronized void setXAxis(Axis xAxis) {
+        this.xAxis = xAxis;
+        dataChanged = true;
+    }
+
+    @Override
+    protected void fireDataChange() {
+        dataChanged = true;
+        super.fireDataChange();
+    }
+
+    @Override
+    public synchronized int getSize() {
+        updateView();
+        return viewActive ? viewSize : super.getSize();
+    }
+
+    /**
+     * Returns a sample of the view. The view is only updated by {@link #getSize()}, so that indexes stay valid while a
+     * trace iterates over them.
+     */
+    @Override
+    public synchronized ISample getSample(int index) {
+        return viewActive ? view[index] : super.getSample(index);
+    }
+
+    /**
+     * @return the number of samples in the buffer, regardless of decimation.
+     */
+    public synchronized int getRawSize() {
+        return super.getSize();
+    }
+
+    /**
+     * @return a sample of the buffer, regardless of decimation.
+     */
+    public synchronized ISample getRawSample(int index) {
+        return super.getSample(index);
+    }
+
+    private void updateView() {
+        if (!decimated || xAxis == null) {
+            viewActive = false;
+            releaseView();
+            return;
+        }
+        Range range = xAxis.getRange();
+        double lower = range.getLower();
+        double upper = range.getUpper();
+        int lowerPosition = xAxis.getValuePosition(lower, false);
+        int upperPosition = xAxis.getValuePosition(upper, false);
+        if (!dataChanged && lower == viewLower && upper == viewUpper
+                && lowerPosition == viewLowerPosition && upperPosition == viewUpperPosition) {
+            return;
+        }
+        dataChanged = false;
+        viewLower = lower;
+        viewUpper = upper;
+        viewLowerPosition = lowerPosition;
+        viewUpperPosition = upperPosition;
+
+        int minColumn = Math.min(lowerPosition, upperPosition) - 1;
+        int maxColumn = Math.max(lowerPosition, upperPosition) + 1;
+        int size = super.getSize();
+        if (size <= (maxColumn - minColumn + 1) * MIN_SAMPLES_PER_COLUMN) {
+            viewActive = false;
+            releaseView();
+            return;
+        }
+        decimate(size, minColumn, maxColumn);
+        viewActive = true;
+    }
+
+    private void decimate(int size, int minColumn, int maxColumn) {
+        if (view.length < size) {
+            view = new ISample[size];
+        }
+        int previousSize = viewSize;
+        viewSize = 0;
+
+        int runColumn = 0;
+        int first = -1, min = -1, max = -1, last = -1;
+        double minY = 0, maxY = 0;
+        for (int i = 0; i < size; i++) {
+            ISample sample = super.getSample(i);
+            double x = sample.getXValue();
+            double y = sample.getYValue();
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                if (first >= 0) {
+                    addRun(first, min, max, last);
+                    first = -1;
+                }
+                view[viewSize++] = sample;
+                continue;
+            }
+
+            // Everything left or right of the plot collapses into a single column
+            int column = Math.max(minColumn, Math.min(maxColumn, xAxis.getValuePosition(x, false)));
+            if (first >= 0 && column == runColumn) {
+                if (y < minY) {
+                    min = i;
+                    minY = y;
+                }
+                if (y > maxY) {
+                    max = i;
+                    maxY = y;
+                }
+                last = i;
+            } else {
+                if (first >= 0) {
+                    addRun(first, min, max, last);
+                }
+                runColumn = column;
+                first = min = max = last = i;
+                minY = maxY = y;
+            }
+        }
+        if (first >= 0) {
+            addRun(first, min, max, last);
+        }
+        if (previousSize > viewSize) {
+            Arrays.fill(view, viewSize, previousSize, null);
+        }
+    }
+
+    /**
+     * Adds the distinct samples of a run in buffer order.
+     */
+    private void addRun(int first, int min, int max, int last) {
+        view[viewSize++] = super.getSample(first);
+        int low = Math.min(min, max);
+        int high = Math.max(min, max);
+        if (low != first) {
+            view[viewSize++] = super.getSample(low);
+        }
+        if (high != low && high != first) {
+            view[viewSize++] = super.getSample(high);
+        }
+        if (last != high && last != first) {
+            view[viewSize++] = super.getSample(last);
+        }
+    }
+
+    private void releaseView() {
+        if (view.length > 0) {
+            view = new ISample[0];
+        }
+        viewSize = 0;
+    }
+}
@@ -33,4 +33,9 @@ public class DoubleArrayWrapper implements IPrimaryArrayWrapper {
         return data.length;
     }
 
+    @Override
+    public void get(int index, double[] dest, int destIndex, int length) {
+        System.arraycopy(data, index, dest, destIndex, length);
+    }
+
 }
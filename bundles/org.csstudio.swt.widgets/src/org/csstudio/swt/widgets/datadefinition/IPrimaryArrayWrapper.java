@@ -25,5 +25,17 @@ public interface IPrimaryArrayWrapper {
      */
     public int getSize();
 
+    /**Copy a range of array elements into a double array. Implementations should override
+     * this to avoid a call per element.
+     * @param index index of the first element to copy
+     * @param dest the destination array
+     * @param destIndex position in the destination array
+     * @param length number of elements to copy
+     */
+    public default void get(int index, double[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; i++)
+            dest[destIndex + i] = get(index + i);
+    }
+
 
 }
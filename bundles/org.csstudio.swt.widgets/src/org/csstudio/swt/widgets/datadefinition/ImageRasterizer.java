@@ -0,0 +1,93 @@
+package org.csstudio.swt.widgets.datadefinition;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * Fills 24 bit {@link ImageData} row by row, writing straight into the image bytes rather than through
+ * {@link ImageData#setPixel(int, int, int)}.
+ * <p>
+ * Large images are split into bands of rows that are filled in parallel on the common fork-join pool. Each band uses
+ * its own {@link RowPainter}, so painters may keep scratch buffers without synchronization.
+ */
+public final class ImageRasterizer {
+
+    // Smaller images are filled on the calling thread only
+    private static final int PARALLEL_THRESHOLD = 256 * 256;
+    private static final int MIN_ROWS_PER_BAND = 32;
+
+    /**
+     * Computes the pixel values of image rows.
+     */
+    public interface RowPainter {
+
+        /**
+         * @param y
+         *            the image row
+         * @param pixels
+         *            receives the pixel value of each column of the row
+         */
+        void paintRow(int y, int[] pixels);
+    }
+
+    private ImageRasterizer() {
+    }
+
+    /**
+     * Fills all rows of a 24 bit image.
+     *
+     * @param imageData
+     *            the image to fill
+     * @param painterFactory
+     *            creates a painter for each band of rows
+     */
+    public static void fill(ImageData imageData, Supplier<RowPainter> painterFactory) {
+        if (imageData.depth != 24) {
+            throw new IllegalArgumentException("Unsupported image depth " + imageData.depth);
+        }
+        int height = imageData.height;
+        int bands = Math.min(ForkJoinPool.getCommonPoolParallelism() * 2, height / MIN_ROWS_PER_BAND);
+        if ((long) imageData.width * height < PARALLEL_THRESHOLD || bands < 2) {
+            fillRows(imageData, painterFactory.get(), 0, height);
+        } else {
+            IntStream.range(0, bands).parallel().forEach(band -> {
+                fillRows(imageData, painterFactory.get(), band * height / bands, (band + 1) * height / bands);
+            });
+        }
+    }
+
+    private static void fillRows(ImageData imageData, RowPainter painter, int fromRow, int toRow) {
+        int width = imageData.width;
+        byte[] data = imageData.data;
+        int[] pixels = new int[width];
+        for (int y = fromRow; y < toRow; y++) {
+            painter.paintRow(y, pixels);
+            // Same byte layout as ImageData.setPixel for depth 24
+            int index = y * imageData.bytesPerLine;
+            for (int x = 0; x < width; x++) {
+                int pixel = pixels[x];
+                data[index++] = (byte) (pixel >> 16);
+                data[index++] = (byte) (pixel >> 8);
+                data[index++] = (byte) pixel;
+            }
+        }
+    }
+
+    /**
+     * Returns for each of <code>targetSize</code> cells the first of <code>sourceSize</code> source cells that it
+     * covers when scaling down. The array has one more element that equals <code>sourceSize</code>, so that cell
+     * <code>i</code> covers the source cells from <code>result[i]</code> up to, but excluding,
+     * <code>max(result[i + 1], result[i] + 1)</code>.
+     */
+    static int[] areaBoundaries(int sourceSize, int targetSize) {
+        int[] boundaries = new int[targetSize + 1];
+        for (int i = 0; i < targetSize; i++) {
+            boundaries[i] = Math.min((int) ((long) i * sourceSize / targetSize), sourceSize - 1);
+        }
+        boundaries[targetSize] = sourceSize;
+        return boundaries;
+    }
+}
@@ -33,4 +33,10 @@ public class IntArrayWrapper implements IPrimaryArrayWrapper {
         return data.length;
     }
 
+    @Override
+    public void get(int index, double[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; i++)
+            dest[destIndex + i] = data[index + i];
+    }
+
 }
@@ -20,6 +20,7 @@ import org.csstudio.swt.widgets.datadefinition.ColorMap.PredefinedColorMap;
 import org.csstudio.swt.widgets.datadefinition.DoubleArrayWrapper;
 import org.csstudio.swt.widgets.datadefinition.FloatArrayWrapper;
 import org.csstudio.swt.widgets.datadefinition.IPrimaryArrayWrapper;
+import org.csstudio.swt.widgets.datadefinition.ImageRasterizer;
 import org.csstudio.swt.widgets.datadefinition.IntArrayWrapper;
 import org.csstudio.swt.widgets.datadefinition.LongArrayWrapper;
 import org.csstudio.swt.widgets.datadefinition.ShortArrayWrapper;
@@ -510,7 +511,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
                 } else {
                     imageData = colorMap.drawImage(croppedDataArray,
                             croppedDataWidth, croppedDataHeight,
-                            max, min, bufferedImageData, shrink);
+                            max, min, bufferedImageData, shrink, areaAveraging);
                 }
 
                 if (imageData == null) {
@@ -786,6 +787,8 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 
     private boolean isSingleLineProfiling = false;
 
+    private boolean areaAveraging = false;
+
     private Color roiColor = ColorConstants.cyan;
 
     public IntensityGraphFigure() {
@@ -982,34 +985,28 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
         }
 
         if (shrink) {
-            int height = imageData.height;
             int width = imageData.width;
             // EDIT: added +1 to account for an early rounding problem
             int x_ratio = (int) ((dataWidth << 16) / width) + 1;
-            int y_ratio = (int) ((dataHeight << 16) / height) + 1;
-            // int x_ratio = (int)((w1<<16)/w2) ;
-            // int y_ratio = (int)((h1<<16)/h2) ;
-            int x2, y2;
-            for (int i = 0; i < height; i++) {
-                for (int j = 0; j < width; j++) {
-                    x2 = ((j * x_ratio) >> 16);
-                    y2 = ((i * y_ratio) >> 16);
-                    int index = y2 * dataWidth * 3 + x2 * 3;
-                    int pixel = calcRGBPixel(dataArray, max, min, index);
-                    imageData.setPixel(j, i, pixel);
-
-                }
+            int y_ratio = (int) ((dataHeight << 16) / imageData.height) + 1;
+            int[] xOffsets = new int[width];
+            for (int j = 0; j < width; j++) {
+                xOffsets[j] = ((j * x_ratio) >> 16) * 3;
             }
-
+            ImageRasterizer.fill(imageData, () -> (i, pixels) -> {
+                int rowOffset = ((i * y_ratio) >> 16) * dataWidth * 3;
+                for (int j = 0; j < pixels.length; j++) {
+                    pixels[j] = calcRGBPixel(dataArray, max, min, rowOffset + xOffsets[j]);
+                }
+            });
         } else {
-            for (int y = 0; y < dataHeight; y++) {
-                for (int x = 0; x < dataWidth; x++) {
-                    // the index of the value in the color table array
-                    int index = y * dataWidth * 3 + x * 3;
-                    int pixel = calcRGBPixel(dataArray, max, min, index);
-                    imageData.setPixel(x, y, pixel);
+            ImageRasterizer.fill(imageData, () -> (y, pixels) -> {
+                // the index of the first value of the row in the data array
+                int rowOffset = y * dataWidth * 3;
+                for (int x = 0; x < pixels.length; x++) {
+                    pixels[x] = calcRGBPixel(dataArray, max, min, rowOffset + x * 3);
                 }
-            }
+            });
         }
         return imageData;
     }
@@ -1703,6 +1700,31 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
         repaint();
     }
 
+    /**
+     * If the image is scaled down by averaging the data covered by each pixel.
+     *
+     * @return the areaAveraging
+     */
+    public boolean isAreaAveraging() {
+        return areaAveraging;
+    }
+
+    /**
+     * Scale down the image by averaging the data covered by each pixel, instead of picking the nearest data point.
+     * This is smoother but slower. It does not apply in RGB mode.
+     *
+     * @param areaAveraging
+     *            the areaAveraging to set
+     */
+    public void setAreaAveraging(boolean areaAveraging) {
+        if (this.areaAveraging == areaAveraging) {
+            return;
+        }
+        this.areaAveraging = areaAveraging;
+        dataDirty = true;
+        repaint();
+    }
+
     /**
      * If it is profiling on single pixel.
      * 
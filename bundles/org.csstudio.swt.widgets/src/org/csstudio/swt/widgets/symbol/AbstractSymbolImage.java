@@ -7,7 +7,10 @@
  ******************************************************************************/
 package org.csstudio.swt.widgets.symbol;
 
+import java.util.List;
+
 import org.csstudio.swt.widgets.symbol.util.PermutationMatrix;
+import org.csstudio.swt.widgets.util.ResourceUtil;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -30,6 +33,7 @@ public abstract class AbstractSymbolImage implements SymbolImage {
     protected Rectangle bounds;
 
     protected IPath imagePath;
+    protected long imageModificationTime;
 
     protected Image image;
     protected ImageData imageData;
@@ -52,6 +56,7 @@ public abstract class AbstractSymbolImage implements SymbolImage {
             .generateIdentityMatrix();
 
     protected boolean animationDisabled = false;
+    protected boolean animationSuspended = false;
     protected boolean alignedToNearestSecond = false;
     protected boolean visible = true;
     protected boolean disposed = false;
@@ -87,6 +92,22 @@ public abstract class AbstractSymbolImage implements SymbolImage {
 
     public void setImagePath(IPath imagePath) {
         this.imagePath = imagePath;
+        imageModificationTime = (imagePath == null || imagePath.isEmpty()) ? 0
+                : ResourceUtil.getModificationTime(imagePath);
+    }
+
+    /**
+     * Returns the key of this image in the {@link SymbolImageCache}.
+     *
+     * @param variant
+     *            the parameters that were applied to the decoded image, if any.
+     * @return the key, or null if there is no image path.
+     */
+    protected List<Object> cacheKey(Object... variant) {
+        if (imagePath == null || imagePath.isEmpty()) {
+            return null;
+        }
+        return SymbolImageCache.key(imagePath, imageModificationTime, variant);
     }
 
     public ImageData getOriginalImageData() {
@@ -269,6 +290,10 @@ public abstract class AbstractSymbolImage implements SymbolImage {
         animationDisabled = stop;
     }
 
+    public void setAnimationSuspended(final boolean suspended) {
+        animationSuspended = suspended;
+    }
+
     public void setAlignedToNearestSecond(boolean aligned) {
         this.alignedToNearestSecond = aligned;
     }
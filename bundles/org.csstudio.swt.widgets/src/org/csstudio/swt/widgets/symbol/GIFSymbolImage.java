@@ -11,18 +11,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 import java.util.logging.Level;
 
 import org.apache.commons.lang3.time.DateUtils;
-import org.csstudio.java.thread.ExecutionService;
 import org.csstudio.swt.widgets.Activator;
 import org.csstudio.swt.widgets.symbol.util.ImageUtils;
 import org.csstudio.swt.widgets.util.AbstractInputStreamRunnable;
 import org.csstudio.swt.widgets.util.IJobErrorHandler;
 import org.csstudio.swt.widgets.util.ResourceUtil;
-import org.csstudio.ui.util.thread.UIBundlingThread;
+import org.csstudio.ui.util.thread.AnimationClock;
 import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
@@ -55,7 +53,8 @@ public class GIFSymbolImage extends AbstractSymbolImage {
     private int animationIndex = 0;
     private long lastUpdateTime;
     private long interval_ms;
-    private ScheduledFuture<?> scheduledFuture;
+    private long animationStartTime;
+    private final AnimationClock.Animation animation = this::animate;
 
     /**
      * The imaged data array for animated image
@@ -96,6 +95,19 @@ public class GIFSymbolImage extends AbstractSymbolImage {
         }
     }
 
+    @Override
+    public void setAnimationSuspended(final boolean suspended) {
+        if (animationSuspended == suspended) {
+            return;
+        }
+        super.setAnimationSuspended(suspended);
+        if (suspended) {
+            stopAnimation();
+        } else if (visible) {
+            startAnimation();
+        }
+    }
+
     // ************************************************************
     // Image color & paint
     // ************************************************************
@@ -197,30 +209,42 @@ public class GIFSymbolImage extends AbstractSymbolImage {
         if (disposed) {
             return;
         }
-        if (animated) {
+        boolean changeColor = !colorToChange.equals(currentColor);
+        boolean scaled = stretch && bounds != null;
+        int scaledWidth = scaled ? bounds.width + leftCrop + rightCrop : -1;
+        int scaledHeight = scaled ? bounds.height + topCrop + bottomCrop : -1;
+        List<Object> key = cacheKey(changeColor ? currentColor : null, permutationMatrix,
+                scaledWidth, scaledHeight);
+        SymbolImageCache.Entry entry = SymbolImageCache.get(key);
+        if (entry != null) {
+            if (animated) {
+                imageDataArray = entry.getFrames();
+            }
+            imageData = entry.getImageData();
+        } else if (animated) {
             imageDataArray = new ImageData[originalImageDataArray.length];
             for (int i = 0; i < originalImageDataArray.length; i++) {
                 imageDataArray[i] = (ImageData) originalImageDataArray[i].clone();
-                if (!colorToChange.equals(currentColor)) {
+                if (changeColor) {
                     imageDataArray[i] = ImageUtils.changeImageColor(currentColor, imageDataArray[i]);
                 }
                 imageDataArray[i] = ImageUtils.applyMatrix(imageDataArray[i], permutationMatrix);
-                if (stretch && bounds != null) {
-                    imageDataArray[i] = imageDataArray[i].scaledTo(bounds.width + leftCrop + rightCrop, bounds.height
-                            + topCrop + bottomCrop);
+                if (scaled) {
+                    imageDataArray[i] = imageDataArray[i].scaledTo(scaledWidth, scaledHeight);
                 }
             }
             imageData = imageDataArray[0];
+            SymbolImageCache.put(key, new SymbolImageCache.Entry(imageDataArray, loader.repeatCount, null));
         } else {
             imageData = (ImageData) originalImageData.clone();
-            if (!colorToChange.equals(currentColor)) {
+            if (changeColor) {
                 imageData = ImageUtils.changeImageColor(currentColor, imageData);
             }
             imageData = ImageUtils.applyMatrix(imageData, permutationMatrix);
-            if (stretch && bounds != null) {
-                imageData = imageData.scaledTo(bounds.width + leftCrop + rightCrop, bounds.height + topCrop
-                        + bottomCrop);
+            if (scaled) {
+                imageData = imageData.scaledTo(scaledWidth, scaledHeight);
             }
+            SymbolImageCache.put(key, new SymbolImageCache.Entry(imageData));
         }
         int imgWidth = imageData.width;
         int imgHeight = imageData.height;
@@ -297,10 +321,7 @@ public class GIFSymbolImage extends AbstractSymbolImage {
      * stop the animation if the image is an animated GIF image.
      */
     public void stopAnimation() {
-        if (scheduledFuture != null) {
-            scheduledFuture.cancel(true);
-            scheduledFuture = null;
-        }
+        AnimationClock.getInstance().unregister(animation);
         refreshing = false;
         showIndex = 0;
     }
@@ -310,52 +331,12 @@ public class GIFSymbolImage extends AbstractSymbolImage {
      */
     public synchronized void realStartAnimation() {
         startAnimationRequested = false;
-        if (animated && !refreshing && !animationDisabled) {
+        if (animated && !refreshing && !animationDisabled && !animationSuspended) {
             repeatCount = loader.repeatCount;
             // animationIndex = 0;
             lastUpdateTime = 0;
             interval_ms = 0;
             refreshing = true;
-            Runnable animationTask = () -> UIBundlingThread.getInstance().addRunnable(() -> {
-                synchronized (GIFSymbolImage.this) {
-                    if (refreshing && (loader.repeatCount == 0 || repeatCount > 0)) {
-                        long currentTime = System.currentTimeMillis();
-                        // use Math.abs() to ensure that the system
-                        // time adjust won't cause problem
-                        if (Math.abs(currentTime - lastUpdateTime) >= interval_ms) {
-                            setShowIndex(animationIndex);
-                            lastUpdateTime = currentTime;
-                            int ms = originalImageDataArray[animationIndex].delayTime * 10;
-                            animationIndex = (animationIndex + 1) % originalImageDataArray.length;
-                            if (ms < 20) {
-                                ms += 30;
-                            }
-                            if (ms < 30) {
-                                ms += 10;
-                            }
-                            interval_ms = ms;
-                            /*
-                             * If we have just drawn the last image, decrement the repeat count and start
-                             * again.
-                             */
-                            if (loader.repeatCount > 0
-                                    && animationIndex == originalImageDataArray.length - 1) {
-                                repeatCount--;
-                            }
-                        }
-                    } else if (loader.repeatCount > 0 && repeatCount <= 0) {
-                        // stop thread when animation finished
-                        if (scheduledFuture != null) {
-                            scheduledFuture.cancel(true);
-                            scheduledFuture = null;
-                        }
-                    }
-                }
-            });
-            if (scheduledFuture != null) {
-                scheduledFuture.cancel(true);
-                scheduledFuture = null;
-            }
             long initialDelay = 100;
             if (alignedToNearestSecond) {
                 Date now = new Date();
@@ -365,8 +346,41 @@ public class GIFSymbolImage extends AbstractSymbolImage {
                     initialDelay = MILLISEC_IN_SEC + initialDelay;
                 }
             }
-            scheduledFuture = ExecutionService.getInstance().getScheduledExecutorService()
-                    .scheduleAtFixedRate(animationTask, initialDelay, 10, TimeUnit.MILLISECONDS);
+            animationStartTime = System.currentTimeMillis() + initialDelay;
+            AnimationClock.getInstance().register(animation);
+        }
+    }
+
+    private synchronized void animate(long currentTime) {
+        if (currentTime < animationStartTime) {
+            return;
+        }
+        if (refreshing && (loader.repeatCount == 0 || repeatCount > 0)) {
+            // use Math.abs() to ensure that the system
+            // time adjust won't cause problem
+            if (Math.abs(currentTime - lastUpdateTime) >= interval_ms) {
+                setShowIndex(animationIndex);
+                lastUpdateTime = currentTime;
+                int ms = originalImageDataArray[animationIndex].delayTime * 10;
+                animationIndex = (animationIndex + 1) % originalImageDataArray.length;
+                if (ms < 20) {
+                    ms += 30;
+                }
+                if (ms < 30) {
+                    ms += 10;
+                }
+                interval_ms = ms;
+                /*
+                 * If we have just drawn the last image, decrement the repeat count and start again.
+                 */
+                if (loader.repeatCount > 0
+                        && animationIndex == originalImageDataArray.length - 1) {
+                    repeatCount--;
+                }
+            }
+        } else if (loader.repeatCount > 0 && repeatCount <= 0) {
+            // stop animating when animation finished
+            AnimationClock.getInstance().unregister(animation);
         }
     }
 
@@ -396,14 +410,14 @@ public class GIFSymbolImage extends AbstractSymbolImage {
         InputStream stream = null;
         Image tempImage = null;
         try {
-            stream = ResourceUtil.pathToInputStream(imagePath.toPortableString());
-            ImageData[] dataArray = loader.load(stream);
-            if (dataArray == null || dataArray.length < 1) {
-                return;
+            if (!loadFromCache()) {
+                stream = ResourceUtil.pathToInputStream(imagePath.toPortableString());
+                ImageData[] dataArray = loader.load(stream);
+                if (dataArray == null || dataArray.length < 1) {
+                    return;
+                }
+                setOriginalImageData(dataArray);
             }
-            originalImageDataArray = dataArray;
-            originalImageData = originalImageDataArray[0];
-            animated = originalImageDataArray.length > 1;
         } catch (Exception e) {
             Activator.getLogger().log(Level.WARNING, "ERROR in loading PNG image " + imagePath, e);
         } finally {
@@ -436,6 +450,15 @@ public class GIFSymbolImage extends AbstractSymbolImage {
             showIndex = 0;
             animationIndex = 0;
         }
+        if (loadFromCache()) {
+            loadingImage = false;
+            resetData();
+            if (animated) {
+                startAnimation();
+            }
+            Display.getDefault().asyncExec(() -> fireSymbolImageLoaded());
+            return;
+        }
         // loading by stream
         loadAnimatedImage(new IJobErrorHandler() {
             private int maxAttempts = 5;
@@ -463,13 +486,20 @@ public class GIFSymbolImage extends AbstractSymbolImage {
             @Override
             public void runWithInputStream(InputStream stream) {
                 synchronized (GIFSymbolImage.this) {
-                    ImageData[] dataArray = loader.load(stream);
-                    if (dataArray == null || dataArray.length < 1) {
-                        return;
+                    // Another symbol with the same image may have been loaded meanwhile
+                    if (loadFromCache()) {
+                        try {
+                            stream.close();
+                        } catch (IOException e) {
+                            Activator.getLogger().log(Level.WARNING, "ERROR in closing GIF image stream ", e);
+                        }
+                    } else {
+                        ImageData[] dataArray = loader.load(stream);
+                        if (dataArray == null || dataArray.length < 1) {
+                            return;
+                        }
+                        setOriginalImageData(dataArray);
                     }
-                    originalImageDataArray = dataArray;
-                    originalImageData = originalImageDataArray[0];
-                    animated = originalImageDataArray.length > 1;
                     loadingImage = false;
                     resetData();
                     if (animated) {
@@ -481,4 +511,23 @@ public class GIFSymbolImage extends AbstractSymbolImage {
         };
         ResourceUtil.pathToInputStreamInJob(imagePath, uiTask, "Loading GIF Image...", errorHandler);
     }
+
+    private void setOriginalImageData(ImageData[] dataArray) {
+        originalImageDataArray = dataArray;
+        originalImageData = originalImageDataArray[0];
+        animated = originalImageDataArray.length > 1;
+        SymbolImageCache.put(cacheKey(), new SymbolImageCache.Entry(dataArray, loader.repeatCount, null));
+    }
+
+    private boolean loadFromCache() {
+        SymbolImageCache.Entry entry = SymbolImageCache.get(cacheKey());
+        if (entry == null) {
+            return false;
+        }
+        originalImageDataArray = entry.getFrames();
+        originalImageData = originalImageDataArray[0];
+        animated = originalImageDataArray.length > 1;
+        loader.repeatCount = entry.getRepeatCount();
+        return true;
+    }
 }
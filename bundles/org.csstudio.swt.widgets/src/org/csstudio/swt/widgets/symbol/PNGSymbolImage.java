@@ -9,6 +9,7 @@ package org.csstudio.swt.widgets.symbol;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.logging.Level;
 
 import org.csstudio.swt.widgets.Activator;
@@ -83,13 +84,24 @@ public class PNGSymbolImage extends AbstractSymbolImage {
         if (disposed || originalImageData == null)
             return;
 
-        imageData = (ImageData) originalImageData.clone();
-        if (!colorToChange.equals(currentColor))
-            imageData = ImageUtils.changeImageColor(currentColor, imageData);
-        imageData = ImageUtils.applyMatrix(imageData, permutationMatrix);
-        if (stretch && bounds != null) {
-            imageData = imageData.scaledTo(bounds.width + leftCrop + rightCrop,
-                    bounds.height + topCrop + bottomCrop);
+        boolean changeColor = !colorToChange.equals(currentColor);
+        boolean scaled = stretch && bounds != null;
+        int scaledWidth = scaled ? bounds.width + leftCrop + rightCrop : -1;
+        int scaledHeight = scaled ? bounds.height + topCrop + bottomCrop : -1;
+        List<Object> key = cacheKey(changeColor ? currentColor : null, permutationMatrix,
+                scaledWidth, scaledHeight);
+        SymbolImageCache.Entry entry = SymbolImageCache.get(key);
+        if (entry != null) {
+            imageData = entry.getImageData();
+        } else {
+            imageData = (ImageData) originalImageData.clone();
+            if (changeColor)
+                imageData = ImageUtils.changeImageColor(currentColor, imageData);
+            imageData = ImageUtils.applyMatrix(imageData, permutationMatrix);
+            if (scaled) {
+                imageData = imageData.scaledTo(scaledWidth, scaledHeight);
+            }
+            SymbolImageCache.put(key, new SymbolImageCache.Entry(imageData));
         }
         int imgWidth = imageData.width;
         int imgHeight = imageData.height;
@@ -125,7 +137,7 @@ public class PNGSymbolImage extends AbstractSymbolImage {
     // ************************************************************
 
     public void syncLoadImage() {
-        if (imagePath == null)
+        if (imagePath == null || loadFromCache())
             return;
         InputStream stream = null;
         Image tempImage = null;
@@ -133,6 +145,7 @@ public class PNGSymbolImage extends AbstractSymbolImage {
             stream = ResourceUtil.pathToInputStream(imagePath.toPortableString());
             tempImage = new Image(Display.getDefault(), stream);
             ImageData imgData = tempImage.getImageData();
+            SymbolImageCache.put(cacheKey(), new SymbolImageCache.Entry(imgData));
             setOriginalImageData(imgData);
         } catch (Exception e) {
             Activator.getLogger().log(Level.WARNING,
@@ -152,6 +165,10 @@ public class PNGSymbolImage extends AbstractSymbolImage {
     public void asyncLoadImage() {
         if (imagePath == null)
             return;
+        if (loadFromCache()) {
+            Display.getDefault().asyncExec(() -> fireSymbolImageLoaded());
+            return;
+        }
         loadingImage = true;
         loadImage(new IJobErrorHandler() {
             private int maxAttempts = 5;
@@ -180,9 +197,13 @@ public class PNGSymbolImage extends AbstractSymbolImage {
                 synchronized (PNGSymbolImage.this) {
                     Image tempImage = null;
                     try {
-                        tempImage = new Image(Display.getDefault(), stream);
-                        ImageData imgData = tempImage.getImageData();
-                        setOriginalImageData(imgData);
+                        // Another symbol with the same image may have been loaded meanwhile
+                        if (!loadFromCache()) {
+                            tempImage = new Image(Display.getDefault(), stream);
+                            ImageData imgData = tempImage.getImageData();
+                            SymbolImageCache.put(cacheKey(), new SymbolImageCache.Entry(imgData));
+                            setOriginalImageData(imgData);
+                        }
                     } finally {
                         try {
                             stream.close();
@@ -207,4 +228,12 @@ public class PNGSymbolImage extends AbstractSymbolImage {
                 "Loading PNG Image...", errorHandler);
     }
 
+    private boolean loadFromCache() {
+        SymbolImageCache.Entry entry = SymbolImageCache.get(cacheKey());
+        if (entry == null)
+            return false;
+        setOriginalImageData(entry.getImageData());
+        return true;
+    }
+
 }
@@ -11,6 +11,7 @@ import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.logging.Level;
 
 import org.apache.batik.anim.dom.SAXSVGDocumentFactory;
@@ -26,7 +27,9 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.widgets.Display;
 import org.w3c.dom.Document;
 import org.w3c.dom.svg.SVGDocument;
@@ -45,6 +48,13 @@ public class SVGSymbolImage extends AbstractSymbolImage {
     private SVGHandler svgHandler;
     private Document svgDocument;
 
+    /**
+     * If <code>true</code>, the document is known to be static, so rendered images can be shared through the
+     * {@link SymbolImageCache}. The document is then only loaded when an image is not in the cache.
+     */
+    private boolean cacheable = false;
+    private Color appliedColor;
+
     private boolean needRender = true;
 
     private Image animatedImage;
@@ -73,12 +83,30 @@ public class SVGSymbolImage extends AbstractSymbolImage {
             return;
         }
         if (visible) {
-            svgHandler.resumeProcessing();
+            if (!animationSuspended) {
+                svgHandler.resumeProcessing();
+            }
         } else {
             svgHandler.suspendProcessing();
         }
     }
 
+    @Override
+    public void setAnimationSuspended(final boolean suspended) {
+        if (animationSuspended == suspended) {
+            return;
+        }
+        super.setAnimationSuspended(suspended);
+        if (svgHandler == null) {
+            return;
+        }
+        if (suspended) {
+            svgHandler.suspendProcessing();
+        } else if (visible && !animationDisabled && svgHandler.isDynamicDocument()) {
+            svgHandler.startProcessing();
+        }
+    }
+
     // ************************************************************
     // Image color & paint
     // ************************************************************
@@ -95,7 +123,7 @@ public class SVGSymbolImage extends AbstractSymbolImage {
                 image.dispose();
                 image = null;
             }
-            if (svgHandler != null && svgHandler.isDynamicDocument() && !animationDisabled) {
+            if (svgHandler != null && svgHandler.isDynamicDocument() && !animationDisabled && !animationSuspended) {
                 svgHandler.startProcessing();
             }
         }
@@ -140,14 +168,28 @@ public class SVGSymbolImage extends AbstractSymbolImage {
         if (disposed) {
             return;
         }
+        Color colorToApply = (!isEditMode() && !colorToChange.equals(currentColor)) ? currentColor : null;
+        Rectangle stretchBounds = (stretch && bounds != null && !bounds.equals(0, 0, 0, 0)) ? bounds : null;
+        List<Object> key = cacheable ? cacheKey(colorToChange, colorToApply, permutationMatrix,
+                stretchBounds == null ? null : stretchBounds.getSize(), scale, leftCrop, rightCrop, topCrop,
+                bottomCrop) : null;
+        SymbolImageCache.Entry entry = SymbolImageCache.get(key);
+        if (entry != null) {
+            imageData = entry.getImageData();
+            Dimension sourceSize = entry.getSourceSize();
+            updateDimension(toCanvasSize(sourceSize.width, sourceSize.height));
+            return;
+        }
+
         // Load document if do not exist
         Document document = getDocument();
         if (document == null) {
             return;
         }
         svgHandler.setColorToChange(colorToChange);
-        if (!isEditMode() && !colorToChange.equals(currentColor)) {
-            svgHandler.setColorToApply(currentColor);
+        if (colorToApply != null) {
+            svgHandler.setColorToApply(colorToApply);
+            appliedColor = colorToApply;
         }
         if (permutationMatrix != null) {
             svgHandler.setTransformMatrix(permutationMatrix.getMatrix());
@@ -155,31 +197,39 @@ public class SVGSymbolImage extends AbstractSymbolImage {
 
         // Scale image
         java.awt.Dimension dims = svgHandler.getDocumentSize();
-        int imgWidth = dims.width;
-        int imgHeight = dims.height;
-        if (stretch) {
-            if (bounds != null && !bounds.equals(0, 0, 0, 0)) {
-                imgWidth = bounds.width;
-                imgHeight = bounds.height;
+        Dimension sourceSize = stretchBounds != null ? stretchBounds.getSize() : new Dimension(dims.width, dims.height);
+        Dimension canvasSize = toCanvasSize(sourceSize.width, sourceSize.height);
+        svgHandler.setCanvasSize(canvasSize.width, canvasSize.height);
+
+        BufferedImage awtImage = svgHandler.getOffScreen();
+        if (awtImage != null) {
+            imageData = SVGUtils.toSWT(Display.getCurrent(), awtImage);
+            // The handler keeps applying a previous color, so do not share such an image as uncolored
+            if (cacheable && (colorToApply != null || appliedColor == null)) {
+                SymbolImageCache.put(key, new SymbolImageCache.Entry(new ImageData[] { imageData }, 0, sourceSize));
             }
         }
+        updateDimension(canvasSize);
+    }
+
+    /**
+     * Limits the crop to the size of the source, and returns the size of the canvas to render the source and the crop
+     * on.
+     */
+    private Dimension toCanvasSize(int imgWidth, int imgHeight) {
         // Avoid negative number
         topCrop = topCrop > imgHeight ? 0 : topCrop;
         leftCrop = leftCrop > imgWidth ? 0 : leftCrop;
         bottomCrop = (imgHeight - topCrop - bottomCrop) < 0 ? 0 : bottomCrop;
         rightCrop = (imgWidth - leftCrop - rightCrop) < 0 ? 0 : rightCrop;
-        imgWidth = (int) Math.round(scale * (imgWidth + leftCrop + rightCrop));
-        imgHeight = (int) Math.round(scale * (imgHeight + bottomCrop + topCrop));
-        svgHandler.setCanvasSize(imgWidth, imgHeight);
-
-        BufferedImage awtImage = svgHandler.getOffScreen();
-        if (awtImage != null) {
-            imageData = SVGUtils.toSWT(Display.getCurrent(), awtImage);
-        }
+        return new Dimension((int) Math.round(scale * (imgWidth + leftCrop + rightCrop)),
+                (int) Math.round(scale * (imgHeight + bottomCrop + topCrop)));
+    }
 
+    private void updateDimension(Dimension canvasSize) {
         // Calculate areas
-        int cropedWidth = imgWidth - (int) Math.round(scale * (leftCrop + rightCrop));
-        int cropedHeight = imgHeight - (int) Math.round(scale * (bottomCrop + topCrop));
+        int cropedWidth = canvasSize.width - (int) Math.round(scale * (leftCrop + rightCrop));
+        int cropedHeight = canvasSize.height - (int) Math.round(scale * (bottomCrop + topCrop));
 
         Dimension newImgDimension = new Dimension((int) Math.round(cropedWidth / scale), (int) Math.round(cropedHeight
                 / scale));
@@ -226,7 +276,7 @@ public class SVGSymbolImage extends AbstractSymbolImage {
             // display static image
             svgHandler.refreshContent();
             resetData();
-        } else if (svgHandler.isDynamicDocument()) {
+        } else if (svgHandler.isDynamicDocument() && !animationSuspended) {
             svgHandler.startProcessing();
         }
     }
@@ -246,6 +296,12 @@ public class SVGSymbolImage extends AbstractSymbolImage {
 
     @Override
     public void syncLoadImage() {
+        if (!loadFromCache()) {
+            syncLoadDocument();
+        }
+    }
+
+    private void syncLoadDocument() {
         svgHandler = null;
         failedToLoadDocument = false;
         try {
@@ -261,6 +317,10 @@ public class SVGSymbolImage extends AbstractSymbolImage {
         if (imagePath == null) {
             return;
         }
+        if (loadFromCache()) {
+            Display.getCurrent().asyncExec(() -> fireSymbolImageLoaded());
+            return;
+        }
         loadingImage = true;
         loadImage(new IJobErrorHandler() {
             private int maxAttempts = 5;
@@ -288,7 +348,10 @@ public class SVGSymbolImage extends AbstractSymbolImage {
             public void runWithInputStream(InputStream stream) {
                 synchronized (SVGSymbolImage.this) {
                     try {
-                        loadDocument(stream);
+                        // Another symbol with the same image may have been loaded meanwhile
+                        if (!loadFromCache()) {
+                            loadDocument(stream);
+                        }
                     } finally {
                         try {
                             stream.close();
@@ -306,6 +369,8 @@ public class SVGSymbolImage extends AbstractSymbolImage {
 
     private void loadDocument(final InputStream inputStream) {
         svgHandler = null;
+        appliedColor = null;
+        cacheable = false;
         failedToLoadDocument = true;
         if (imagePath == null || imagePath.isEmpty()) {
             return;
@@ -324,6 +389,10 @@ public class SVGSymbolImage extends AbstractSymbolImage {
             if (awtImage != null) {
                 this.originalImageData = SVGUtils.toSWT(Display.getCurrent(), awtImage);
                 resetData();
+                cacheable = !svgHandler.isDynamicDocument();
+                if (cacheable) {
+                    SymbolImageCache.put(cacheKey(), new SymbolImageCache.Entry(originalImageData));
+                }
             }
             svgHandler.setRenderListener(image -> {
                 if (disposed) {
@@ -345,11 +414,27 @@ public class SVGSymbolImage extends AbstractSymbolImage {
             return null;
         }
         if (svgHandler == null) {
-            syncLoadImage();
+            syncLoadDocument();
         }
         return svgHandler == null ? null : svgHandler.getOriginalDocument();
     }
 
+    /**
+     * Uses the cached image of a static document. The document itself is only loaded once an image variant is not
+     * in the cache.
+     */
+    private boolean loadFromCache() {
+        SymbolImageCache.Entry entry = SymbolImageCache.get(cacheKey());
+        if (entry == null) {
+            return false;
+        }
+        originalImageData = entry.getImageData();
+        cacheable = true;
+        failedToLoadDocument = false;
+        resetData();
+        return true;
+    }
+
     private void initRenderingHints() {
         svgHandler.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         svgHandler.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB);
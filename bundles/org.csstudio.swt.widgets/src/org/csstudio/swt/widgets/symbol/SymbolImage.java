@@ -118,6 +118,11 @@ public interface SymbolImage {
 
     public void setAnimationDisabled(final boolean stop);
 
+    /**
+     * Pauses the animation while the image is not on screen, and resumes it when it is shown again.
+     */
+    public void setAnimationSuspended(final boolean suspended);
+
     public void setListener(SymbolImageListener listener);
 
     public void syncLoadImage();
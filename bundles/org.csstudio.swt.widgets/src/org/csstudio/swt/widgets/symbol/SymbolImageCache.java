@@ -0,0 +1,163 @@
+package org.csstudio.swt.widgets.symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.csstudio.swt.widgets.symbol.util.PermutationMatrix;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.ImageData;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Process-wide cache of decoded symbol images, shared by all symbol image widgets.
+ * <p>
+ * Entries are keyed by image path and modification time, so that an edited image is decoded again. Besides the decoded
+ * image, variants with colour, rotation and size applied are cached under keys that also contain these parameters.
+ * The cache is bounded by the size of the pixel data it holds, and evicts the least recently used entries first.
+ * <p>
+ * Cached {@link ImageData} is shared and must not be modified.
+ */
+public final class SymbolImageCache {
+
+    private static final long MAX_WEIGHT = 64 * 1024 * 1024;
+
+    // Entries of URLs cannot be checked for modifications, so do not keep them forever
+    private static final long EXPIRE_MINUTES = 10;
+
+    private static final Cache<List<Object>, Entry> cache = CacheBuilder.newBuilder()
+            .recordStats()
+            .maximumWeight(MAX_WEIGHT)
+            .<List<Object>, Entry> weigher((key, entry) -> entry.getWeight())
+            .expireAfterAccess(EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * A cached image.
+     */
+    static final class Entry {
+
+        private final ImageData[] frames;
+        private final int repeatCount;
+        private final Dimension sourceSize;
+
+        /**
+         * @param frames
+         *            the image data, one element per frame of an animated image.
+         * @param repeatCount
+         *            the number of times an animated image is repeated. 0 means forever.
+         * @param sourceSize
+         *            the size of the source that was rendered, if it differs from the image. May be null.
+         */
+        Entry(ImageData[] frames, int repeatCount, Dimension sourceSize) {
+            this.frames = frames;
+            this.repeatCount = repeatCount;
+            this.sourceSize = sourceSize;
+        }
+
+        Entry(ImageData imageData) {
+            this(new ImageData[] { imageData }, 0, null);
+        }
+
+        ImageData getImageData() {
+            return frames[0];
+        }
+
+        ImageData[] getFrames() {
+            return frames;
+        }
+
+        int getRepeatCount() {
+            return repeatCount;
+        }
+
+        Dimension getSourceSize() {
+            return sourceSize;
+        }
+
+        private int getWeight() {
+            long weight = 0;
+            for (ImageData frame : frames) {
+                weight += frame.data.length;
+                if (frame.alphaData != null) {
+                    weight += frame.alphaData.length;
+                }
+                if (frame.maskData != null) {
+                    weight += frame.maskData.length;
+                }
+            }
+            return (int) Math.min(weight, Integer.MAX_VALUE);
+        }
+    }
+
+    private SymbolImageCache() {
+    }
+
+    /**
+     * Creates the key of an image, or of a variant of it.
+     *
+     * @param path
+     *            the path of the image file
+     * @param modificationTime
+     *            the modification time of the image file
+     * @param variant
+     *            parameters that were applied to the decoded image. Colors and matrices are converted to immutable
+     *            values.
+     */
+    static List<Object> key(IPath path, long modificationTime, Object... variant) {
+        List<Object> key = new ArrayList<>(variant.length + 2);
+        key.add(path.toPortableString());
+        key.add(modificationTime);
+        for (Object part : variant) {
+            if (part instanceof Color) {
+                key.add(((Color) part).getRGB());
+            } else if (part instanceof PermutationMatrix) {
+                key.add(Arrays.deepToString(((PermutationMatrix) part).getMatrix()));
+            } else {
+                key.add(part);
+            }
+        }
+        return Collections.unmodifiableList(key);
+    }
+
+    /**
+     * @return the cached image, or null if there is none or the key is null.
+     */
+    static Entry get(List<Object> key) {
+        return key == null ? null : cache.getIfPresent(key);
+    }
+
+    static void put(List<Object> key, Entry entry) {
+        if (key != null) {
+            cache.put(key, entry);
+        }
+    }
+
+    /**
+     * @return hit, miss and eviction counts of the cache.
+     */
+    public static CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return the number of cached images.
+     */
+    public static long size() {
+        return cache.size();
+    }
+
+    /**
+     * Discards all cached images. Widgets that already show an image keep it.
+     */
+    public static void clear() {
+        cache.invalidateAll();
+    }
+}
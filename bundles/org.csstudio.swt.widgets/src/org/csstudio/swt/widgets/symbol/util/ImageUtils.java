@@ -261,9 +261,16 @@ public final class ImageUtils {
 
     /**
      * Convert a colored image to grayscale image using average method.
+     * <p>
+     * The original image data is not modified. It may be shared, see
+     * {@link org.csstudio.swt.widgets.symbol.SymbolImageCache}.
      */
     public static ImageData convertToGrayscale(ImageData originalImageData) {
         ImageData imageData = (ImageData) originalImageData.clone();
+        if (!imageData.palette.isDirect) {
+            // clone() shares the palette, which is recolored below and by the callers
+            imageData.palette = new PaletteData(imageData.palette.colors.clone());
+        }
         PaletteData palette = imageData.palette;
         if (palette.isDirect) {
             int[] lineData = new int[imageData.width];
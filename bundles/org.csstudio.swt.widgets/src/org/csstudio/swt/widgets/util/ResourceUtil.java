@@ -129,6 +129,25 @@ public class ResourceUtil {
         }
     }
 
+    /**
+     * Return the modification time of the file on the given path.
+     *
+     * @param path
+     *            Path to a file in the workspace or in the local file system
+     * @return the modification time in milliseconds, or 0 if it is not known, for example for URLs.
+     */
+    public static long getModificationTime(final IPath path) {
+        final IFile workspace_file = getIFileFromIPath(path);
+        if (workspace_file != null) {
+            return Math.max(0, workspace_file.getLocalTimeStamp());
+        }
+        File local_file = new File(path.toPortableString());
+        if (local_file.getPath().startsWith("file:")) {
+            local_file = new File(local_file.getPath().substring(5));
+        }
+        return local_file.lastModified();
+    }
+
     /**
      * Get the IFile from IPath.
      * 
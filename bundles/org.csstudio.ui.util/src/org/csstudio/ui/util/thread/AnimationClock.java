@@ -0,0 +1,134 @@
+package org.csstudio.ui.util.thread;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+
+/**
+ * A single frame clock shared by all widget animations, such as animated images and pulsing alarm colors.
+ * <p>
+ * The clock ticks on the UI thread, and advances all registered animations in the same pass. Repaints requested by
+ * the animations are therefore handled together in a single paint. The clock only runs while animations are
+ * registered, so animations should unregister while they are not visible.
+ */
+public final class AnimationClock {
+
+    /**
+     * An animation that is advanced by the clock.
+     */
+    public interface Animation {
+
+        /**
+         * Advances the animation. Called on the UI thread, once per frame.
+         *
+         * @param now
+         *            the time of the frame, in milliseconds since the epoch
+         */
+        void tick(long now);
+    }
+
+    /**
+     * Time between frames in milliseconds.
+     */
+    public static final int FRAME_INTERVAL = 20;
+
+    private static final Logger log = Logger.getLogger(AnimationClock.class.getName());
+
+    private static AnimationClock instance;
+
+    private final Display display;
+    private final Set<Animation> animations = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Runnable tickTask = this::tick;
+
+    private AnimationClock() {
+        Display current = Display.getCurrent();
+        if (current == null) {
+            if (PlatformUI.isWorkbenchRunning()) {
+                current = PlatformUI.getWorkbench().getDisplay();
+            } else {
+                current = Display.getDefault();
+            }
+        }
+        display = current;
+    }
+
+    /**
+     * Gets the singleton instance.
+     */
+    public static synchronized AnimationClock getInstance() {
+        if (instance == null) {
+            instance = new AnimationClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Adds an animation to the clock. Has no effect if the animation is already registered. Can be called from any
+     * thread.
+     */
+    public void register(Animation animation) {
+        animations.add(animation);
+        start();
+    }
+
+    /**
+     * Removes an animation from the clock. Can be called from any thread, including from
+     * {@link Animation#tick(long)}.
+     */
+    public void unregister(Animation animation) {
+        animations.remove(animation);
+    }
+
+    /**
+     * Returns the number of registered animations.
+     */
+    public int getAnimationCount() {
+        return animations.size();
+    }
+
+    private void start() {
+        if (running.compareAndSet(false, true)) {
+            if (display.isDisposed()) {
+                running.set(false);
+                return;
+            }
+            try {
+                display.asyncExec(() -> display.timerExec(FRAME_INTERVAL, tickTask));
+            } catch (Exception e) {
+                log.log(Level.WARNING, "Display has been disposed.", e);
+                running.set(false);
+            }
+        }
+    }
+
+    private void tick() {
+        if (display.isDisposed()) {
+            animations.clear();
+            running.set(false);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Animation animation : animations) {
+            try {
+                animation.tick(now);
+            } catch (Exception e) {
+                log.log(Level.WARNING, "Error while advancing animation", e);
+            }
+        }
+
+        if (animations.isEmpty()) {
+            running.set(false);
+            // An animation may have been registered just before the clock stopped
+            if (animations.isEmpty() || !running.compareAndSet(false, true)) {
+                return;
+            }
+        }
+        display.timerExec(FRAME_INTERVAL, tickTask);
+    }
+}
@@ -0,0 +1,165 @@
+package org.csstudio.ui.util.thread;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Executes batches of runnables on the UI thread using a single {@link Display#asyncExec(Runnable)} per batch, rather
+ * than one per runnable.
+ * <p>
+ * Each UI pass runs queued runnables until the frame budget is used up. Any remaining work is carried over to a next
+ * pass, so that the UI thread still gets to process user input and paint events in between.
+ */
+public final class UIBatchExecutor {
+
+    private static final Logger log = Logger.getLogger(UIBatchExecutor.class.getName());
+
+    private final Display display;
+    private final long frameBudgetNanos;
+
+    private final Queue<Runnable> backlog = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final Runnable flushTask = this::flush;
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong taskCount = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong passCount = new AtomicLong();
+    private final AtomicLong carriedOverCount = new AtomicLong();
+    private final AtomicLong uiTimeNanos = new AtomicLong();
+
+    /**
+     * @param display
+     *            the display whose UI thread executes the runnables
+     * @param frameBudget
+     *            maximum time in milliseconds that a single UI pass may spend executing runnables
+     */
+    public UIBatchExecutor(Display display, long frameBudget) {
+        this.display = display;
+        frameBudgetNanos = TimeUnit.MILLISECONDS.toNanos(frameBudget);
+    }
+
+    /**
+     * Queues a batch of runnables for execution on the UI thread, in the given order. Null entries are ignored.
+     */
+    public void execute(Runnable[] batch) {
+        if (batch.length == 0) {
+            return;
+        }
+        int added = 0;
+        for (Runnable r : batch) {
+            if (r != null) {
+                backlog.add(r);
+                added++;
+            }
+        }
+        batchCount.incrementAndGet();
+        taskCount.addAndGet(added);
+        maxBatchSize.accumulateAndGet(added, Math::max);
+        scheduleFlush();
+    }
+
+    /**
+     * Returns true if all submitted runnables have been executed.
+     */
+    public boolean isIdle() {
+        return !flushScheduled.get() && backlog.isEmpty();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            if (display.isDisposed()) {
+                backlog.clear();
+                flushScheduled.set(false);
+                return;
+            }
+            try {
+                display.asyncExec(flushTask);
+            } catch (Exception e) {
+                log.log(Level.WARNING, "Display has been disposed.", e);
+                backlog.clear();
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void flush() {
+        passCount.incrementAndGet();
+        long start = System.nanoTime();
+        long deadline = start + frameBudgetNanos;
+        Runnable r;
+        while ((r = backlog.poll()) != null) {
+            try {
+                r.run();
+            } catch (Exception e) {
+                log.log(Level.WARNING, "Error while executing UI task", e);
+            }
+            if (System.nanoTime() - deadline > 0) {
+                break;
+            }
+        }
+        uiTimeNanos.addAndGet(System.nanoTime() - start);
+
+        flushScheduled.set(false);
+        if (!backlog.isEmpty()) {
+            carriedOverCount.incrementAndGet();
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Number of batches that were submitted.
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Number of runnables that were submitted.
+     */
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    /**
+     * Largest number of runnables that were submitted in a single batch.
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    /**
+     * Number of UI passes that were executed.
+     */
+    public long getPassCount() {
+        return passCount.get();
+    }
+
+    /**
+     * Number of UI passes that ran out of frame budget, and carried remaining work over to a next pass.
+     */
+    public long getCarriedOverCount() {
+        return carriedOverCount.get();
+    }
+
+    /**
+     * Total time in milliseconds that was spent on the UI thread.
+     */
+    public long getUITime() {
+        return TimeUnit.NANOSECONDS.toMillis(uiTimeNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("batches=%d, tasks=%d, maxBatchSize=%d, passes=%d, carriedOver=%d, uiTime=%d ms",
+                getBatchCount(), getTaskCount(), getMaxBatchSize(), getPassCount(), getCarriedOverCount(),
+                getUITime());
+    }
+}
@@ -1,5 +1,7 @@
 package org.csstudio.ui.util.thread;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
@@ -37,6 +39,11 @@ public final class UIBundlingThread implements Runnable {
 
     private Display display;
 
+    /**
+     * Executes the queued runnables in a single UI pass per cycle.
+     */
+    private UIBatchExecutor batchExecutor;
+
     /**
      * Standard constructor.
      */
@@ -49,6 +56,7 @@ public final class UIBundlingThread implements Runnable {
             else
                 display = Display.getDefault();
         }
+        batchExecutor = new UIBatchExecutor(display, 20);
         Executors.newScheduledThreadPool(1)
                 .scheduleAtFixedRate(this, 100, 20, TimeUnit.MILLISECONDS);
 
@@ -81,11 +89,19 @@ public final class UIBundlingThread implements Runnable {
      * Process the complete queue.
      */
     private synchronized void processQueue() {
+        List<Runnable> batch = new ArrayList<>(tasksQueue.size());
         Runnable r;
         while( (r=tasksQueue.poll()) != null){
-            display.asyncExec(r);
+            batch.add(r);
         }
+        batchExecutor.execute(batch.toArray(new Runnable[batch.size()]));
+    }
 
+    /**
+     * Returns the executor that flushes queued runnables to the UI thread. Can be used to inspect batch statistics.
+     */
+    public UIBatchExecutor getBatchExecutor() {
+        return batchExecutor;
     }
 
     /**
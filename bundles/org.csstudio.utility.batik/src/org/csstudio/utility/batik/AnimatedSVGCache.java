@@ -16,14 +16,12 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import org.apache.batik.anim.timing.TimedDocumentRoot;
 import org.apache.batik.anim.timing.TimedElement;
 import org.apache.commons.lang3.time.DateUtils;
-import org.csstudio.java.thread.ExecutionService;
+import org.csstudio.ui.util.thread.AnimationClock;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.widgets.Display;
@@ -53,9 +51,9 @@ public class AnimatedSVGCache {
     private List<Entry> entries = Collections.synchronizedList(new LinkedList<Entry>());
 
     /**
-     * Cache main task.
+     * Cache main task, advanced by the shared {@link AnimationClock}.
      */
-    private ScheduledFuture<?> scheduledMain;
+    private AnimationClock.Animation animation;
 
     /**
      * Time root of the current SVG document.
@@ -215,13 +213,29 @@ public class AnimatedSVGCache {
         if (entries.size() == 0) {
             return;
         }
-        Runnable animationTask = new Runnable() {
+        stopProcessing();
+        long initialDelay = 100;
+        if (alignedToNearestSecond) {
+            Date now = new Date();
+            Date nearestSecond = DateUtils.round(now, Calendar.SECOND);
+            initialDelay = nearestSecond.getTime() - now.getTime();
+            if (initialDelay < 0) {
+                initialDelay += 1000; // number of milliseconds in 1 seconds
+            }
+        }
+        long startTime = System.currentTimeMillis() + initialDelay;
+        animation = new AnimationClock.Animation() {
             private long lastUpdateTime = 0;
             private int currentIndex = 0;
 
             @Override
-            public void run() {
-                long currentTime = System.currentTimeMillis();
+            public void tick(long currentTime) {
+                if (currentTime < startTime || entries.isEmpty()) {
+                    return;
+                }
+                if (currentIndex >= entries.size()) {
+                    currentIndex = 0;
+                }
                 Entry currentEntry = entries.get(currentIndex);
                 // use Math.abs() to ensure that the system
                 // time adjust won't cause problem
@@ -237,29 +251,14 @@ public class AnimatedSVGCache {
                 }
             }
         };
-        if (scheduledMain != null) {
-            scheduledMain.cancel(true);
-            scheduledMain = null;
-        }
-        running = false;
-        long initialDelay = 100;
-        if (alignedToNearestSecond) {
-            Date now = new Date();
-            Date nearestSecond = DateUtils.round(now, Calendar.SECOND);
-            initialDelay = nearestSecond.getTime() - now.getTime();
-            if (initialDelay < 0) {
-                initialDelay += 1000; // number of milliseconds in 1 seconds
-            }
-        }
-        scheduledMain = ExecutionService.getInstance().getScheduledExecutorService()
-                .scheduleAtFixedRate(animationTask, initialDelay, 10, TimeUnit.MILLISECONDS);
+        AnimationClock.getInstance().register(animation);
         running = true;
     }
 
     public void stopProcessing() {
-        if (scheduledMain != null) {
-            scheduledMain.cancel(true);
-            scheduledMain = null;
+        if (animation != null) {
+            AnimationClock.getInstance().unregister(animation);
+            animation = null;
         }
         running = false;
     }
@@ -763,7 +763,7 @@ public class SVGHandler {
 
     protected void notifyNewImage(final Image newImage) {
         if (handlerListener != null && newImage != null && !suspended) {
-            swtDisplay.asyncExec(new Runnable() {
+            Runnable notifyTask = new Runnable() {
                 @Override
                 public void run() {
                     if (suspended) {
@@ -774,7 +774,13 @@ public class SVGHandler {
                         addToBuffer(newImage);
                     }
                 }
-            });
+            };
+            // Cached images are notified by the animation clock, which already runs on the UI thread
+            if (Display.getCurrent() == swtDisplay) {
+                notifyTask.run();
+            } else {
+                swtDisplay.asyncExec(notifyTask);
+            }
         }
     }
 
@@ -14,6 +14,7 @@ import org.yamcs.studio.core.YamcsPlugin;
 public class ArchiveIndexReceiver {
 
     private static final Logger log = Logger.getLogger(ArchiveIndexReceiver.class.getName());
+    private static final String[] INDEX_FILTERS = { "tm", "pp", "commands" /* , "completeness" */ };
     private ArchiveView archiveView;
 
     volatile private boolean receiving = false;
@@ -33,7 +34,7 @@ public class ArchiveIndexReceiver {
             archive.streamIndex(response -> {
                 log.fine(String.format("Received %d archive records", response.getRecordsCount()));
                 archiveView.receiveArchiveRecords(response);
-            }, interval.getStart(), interval.getStop(), IndexOptions.filter("tm", "pp", "commands"/*, "completeness"*/))
+            }, interval.getStart(), interval.getStop(), IndexOptions.filter(INDEX_FILTERS))
                     .whenComplete((data, exc) -> {
                         if (exc == null) {
                             log.info("Done receiving archive records");
@@ -49,6 +50,42 @@ public class ArchiveIndexReceiver {
         }
     }
 
+    /**
+     * Fetches the index of a tile, limited to the requested interval. Unlike {@link #getIndex(TimeInterval)}, multiple
+     * tiles may be received at the same time.
+     */
+    public void getIndexTile(IndexTile tile, TimeInterval interval) {
+        long start = tile.getStart();
+        long stop = tile.getStop();
+        if (interval.hasStart()) {
+            start = Math.max(start, interval.getStart().toEpochMilli());
+        }
+        if (interval.hasStop()) {
+            stop = Math.min(stop, interval.getStop().toEpochMilli());
+        }
+
+        if (start >= stop) {
+            archiveView.receiveIndexTileFinished(tile);
+            return;
+        }
+        ArchiveClient archive = YamcsPlugin.getArchiveClient();
+        if (archive == null) {
+            archiveView.receiveIndexTileError(tile, "Not connected");
+            return;
+        }
+        archive.streamIndex(response -> {
+            log.fine(String.format("Received %d archive records of %s", response.getRecordsCount(), tile));
+            archiveView.receiveIndexTile(tile, response);
+        }, Instant.ofEpochMilli(start), Instant.ofEpochMilli(stop), IndexOptions.filter(INDEX_FILTERS))
+                .whenComplete((data, exc) -> {
+                    if (exc == null) {
+                        archiveView.receiveIndexTileFinished(tile);
+                    } else {
+                        archiveView.receiveIndexTileError(tile, exc.toString());
+                    }
+                });
+    }
+
     public void getTag(TimeInterval interval) {
         if (receiving) {
             log.info("Already receiving data");
@@ -210,6 +210,19 @@ public class ArchivePanel extends JPanel implements PropertyChangeListener {
         }
     }
 
+    public void receiveIndexTile(IndexTile tile, IndexResult ir) {
+        dataViewer.receiveIndexTile(tile, ir);
+    }
+
+    public void receiveIndexTileFinished(IndexTile tile) {
+        dataViewer.indexTileLoaded(tile);
+    }
+
+    public void receiveIndexTileError(IndexTile tile, String errorMessage) {
+        log.log(Level.WARNING, "Error when receiving archive records of " + tile + ": " + errorMessage);
+        dataViewer.indexTileFailed(tile);
+    }
+
     public void receiveArchiveRecordsError(final String errorMessage) {
         SwingUtilities.invokeLater(() -> {
 
@@ -455,6 +455,18 @@ public class ArchiveView extends ViewPart implements YamcsAware, ISourceProvider
         archivePanel.receiveArchiveRecords(ir);
     }
 
+    public void receiveIndexTile(IndexTile tile, IndexResult ir) {
+        archivePanel.receiveIndexTile(tile, ir);
+    }
+
+    public void receiveIndexTileFinished(IndexTile tile) {
+        archivePanel.receiveIndexTileFinished(tile);
+    }
+
+    public void receiveIndexTileError(IndexTile tile, String errorMessage) {
+        archivePanel.receiveIndexTileError(tile, errorMessage);
+    }
+
     public void receiveArchiveRecordsError(String errorMessage) {
         archivePanel.receiveArchiveRecordsError(errorMessage);
     }
@@ -45,6 +45,7 @@ public class DataView extends JScrollPane {
     Map<String, IndexBox> indexBoxes = new HashMap<>();
     private boolean showTagBox = true;
     Stack<ZoomSpec> zoomStack = new Stack<>();
+    IndexTiles tiles = new IndexTiles();
     private List<ActionListener> actionListeners = new ArrayList<>();
 
     private DataViewer dataViewer;
@@ -93,6 +94,9 @@ public class DataView extends JScrollPane {
 
         getColumnHeader().setOpaque(false);
 
+        // Fetch the index of the parts that are scrolled into view
+        getViewport().addChangeListener(e -> loadVisibleTiles());
+
         currentLocator = DO_NOT_DRAW;
         drawPreviewLocator = false;
 
@@ -178,6 +182,77 @@ public class DataView extends JScrollPane {
         headerPanel.scale.setMinimumSize(headerPanel.scale.getMaximumSize());
         headerPanel.scale.setPreferredSize(headerPanel.scale.getMaximumSize());
         headerPanel.scale.setSize(headerPanel.scale.getMaximumSize());
+
+        loadVisibleTiles();
+    }
+
+    /**
+     * Prepares for a new load of the archive index, and returns the bucket size into which the records of the complete
+     * interval should be merged. This matches the unzoomed view, finer zoom levels are loaded in tiles.
+     *
+     * @return -1 if the size of the unzoomed view cannot be known before loading
+     */
+    long resetIndexTiles() {
+        TimeInterval interval = archivePanel.getRequestedDataInterval();
+        int width = getViewport().getExtentSize().width;
+        if (width <= 0) {
+            width = getPreferredSize().width;
+        }
+        long range = interval.calculateStop().toEpochMilli() - interval.calculateStart().toEpochMilli();
+        if (!interval.hasStart() || range <= 0) {
+            tiles.reset(0);
+            return -1;
+        }
+        int baseLevel = IndexTile.getLevel((double) range / width);
+        tiles.reset(baseLevel);
+        return IndexTile.getResolution(baseLevel);
+    }
+
+    /**
+     * Requests the tiles of the current zoom that are visible, or one view extent away.
+     */
+    void loadVisibleTiles() {
+        if (zoomStack.isEmpty()) {
+            return;
+        }
+        ZoomSpec zoom = zoomStack.peek();
+        int level = IndexTile.getLevel(zoom.pixelRatio);
+        if (!tiles.isTiled(level)) {
+            return;
+        }
+        JViewport vp = getViewport();
+        int x = vp.getViewPosition().x;
+        int extentWidth = vp.getExtentSize().width;
+        long start = Math.max(zoom.startInstant, zoom.convertPixelToInstant(x - extentWidth));
+        long stop = Math.min(zoom.stopInstant, zoom.convertPixelToInstant(x + 2 * extentWidth));
+        if (start >= stop) {
+            return;
+        }
+        for (IndexTile tile : tiles.request(level, start, stop)) {
+            dataViewer.loadIndexTile(tile);
+        }
+    }
+
+    void indexTileFailed(IndexTile tile) {
+        if (tiles.failed(tile)) {
+            for (IndexBox ib : indexBoxes.values()) {
+                ib.removeTile(tile);
+            }
+        }
+    }
+
+    void indexTileLoaded(IndexTile tile) {
+        List<IndexTile> evicted = tiles.finished(tile);
+        for (IndexBox ib : indexBoxes.values()) {
+            for (IndexTile evictedTile : evicted) {
+                ib.removeTile(evictedTile);
+            }
+        }
+        if (!zoomStack.isEmpty() && IndexTile.getLevel(zoomStack.peek().pixelRatio) == tile.level) {
+            for (IndexBox ib : indexBoxes.values()) {
+                ib.refreshTimelines();
+            }
+        }
     }
 
     void setPointer(MouseEvent e) {
@@ -125,8 +125,9 @@ public class DataViewer extends JPanel implements ActionListener {
             archivePanel.archiveView.setZoomClearEnabled(false);
         });
 
+        long baseResolution = dataView.resetIndexTiles();
         for (IndexBox ib : dataView.indexBoxes.values()) {
-            ib.startReloading();
+            ib.startReloading(baseResolution);
         }
         dataView.headerPanel.tagBox.tags.clear();
     }
@@ -155,6 +156,34 @@ public class DataViewer extends JPanel implements ActionListener {
         }
     }
 
+    public void loadIndexTile(IndexTile tile) {
+        indexReceiver.getIndexTile(tile, archivePanel.getRequestedDataInterval());
+    }
+
+    public void receiveIndexTile(IndexTile tile, Yamcs.IndexResult ir) {
+        if (!dataView.tiles.isPending(tile)) {
+            return;
+        }
+        if ("COMPLETENESS".equals(ir.getType())) {
+            if (dataView.indexBoxes.containsKey("completeness")) {
+                dataView.indexBoxes.get("completeness").receiveTileRecords(tile, ir.getRecordsList());
+            }
+        } else if ("HISTOGRAM".equals(ir.getType())) {
+            String tableName = ir.getTableName();
+            if (dataView.indexBoxes.containsKey(tableName)) {
+                dataView.indexBoxes.get(tableName).receiveTileRecords(tile, ir.getRecordsList());
+            }
+        }
+    }
+
+    public void indexTileLoaded(IndexTile tile) {
+        SwingUtilities.invokeLater(() -> dataView.indexTileLoaded(tile));
+    }
+
+    public void indexTileFailed(IndexTile tile) {
+        SwingUtilities.invokeLater(() -> dataView.indexTileFailed(tile));
+    }
+
     public void archiveLoadFinished() {
         dataView.archiveLoadFinished();
     }
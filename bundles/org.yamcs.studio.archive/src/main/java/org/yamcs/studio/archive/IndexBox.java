@@ -13,6 +13,7 @@ import java.awt.Insets;
 import java.awt.RenderingHints;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map.Entry;
@@ -50,6 +51,8 @@ public class IndexBox extends Box {
     HashMap<String, IndexLineSpec> allPackets;
     HashMap<String, ArrayList<IndexLineSpec>> groups;
     HashMap<String, TreeSet<IndexChunkSpec>> tmData;
+    // Records of loaded tiles, by level. Guarded by tmData.
+    HashMap<Integer, HashMap<String, TreeSet<IndexChunkSpec>>> tileData;
     private ZoomSpec zoom;
     private String name;
 
@@ -58,6 +61,12 @@ public class IndexBox extends Box {
      * each other. -1 means no merging
      */
     long mergeTime = -1;
+
+    /**
+     * the bucket size into which the records of the complete interval are merged, matching the unzoomed view. -1 means
+     * that only mergeTime applies
+     */
+    long baseResolution = -1;
     Preferences prefs;
 
     private JPanel topPanel;
@@ -104,6 +113,7 @@ public class IndexBox extends Box {
         allPackets = new HashMap<>();
         groups = new HashMap<>();
         tmData = new HashMap<>();
+        tileData = new HashMap<>();
     }
 
     void removeIndexLines() {
@@ -163,64 +173,160 @@ public class IndexBox extends Box {
     }
 
     public void receiveArchiveRecords(List<ArchiveRecord> records) {
-        String[] nameparts;
         synchronized (tmData) {
-            // progressMonitor.setProgress(30);
-            // progressMonitor.setNote("Receiving data");
-
-            for (ArchiveRecord r : records) {
-                // debugLog(r.packet+"\t"+r.num+"\t"+new Date(r.first)+"\t"+new Date(r.last));
-                NamedObjectId id = r.getId();
-                String grpName = null;
-                String shortName = null;
-                // split the id into group->name
-                if (!id.hasNamespace()) {
-                    int idx = id.getName().lastIndexOf("/");
-                    if (idx != -1) {
-                        grpName = id.getName().substring(0, idx + 1);
-                        shortName = id.getName().substring(idx + 1);
-                    }
+            long merge = (mergeTime == -1 || baseResolution == -1) ? mergeTime : Math.max(mergeTime, baseResolution);
+            addRecords(records, tmData, merge, Long.MIN_VALUE, Long.MAX_VALUE);
+            titleLabel.setText(name);
+        }
+    }
+
+    /**
+     * Adds the records of a tile. Records are clipped to the tile, so that tiles can be evicted independently.
+     */
+    public void receiveTileRecords(IndexTile tile, List<ArchiveRecord> records) {
+        synchronized (tmData) {
+            HashMap<String, TreeSet<IndexChunkSpec>> data = tileData.get(tile.level);
+            if (data == null) {
+                data = new HashMap<>();
+                tileData.put(tile.level, data);
+            }
+            long merge = (mergeTime == -1) ? -1 : Math.max(mergeTime, tile.getResolution());
+            addRecords(records, data, merge, tile.getStart(), tile.getStop());
+        }
+    }
+
+    public void removeTile(IndexTile tile) {
+        synchronized (tmData) {
+            HashMap<String, TreeSet<IndexChunkSpec>> data = tileData.get(tile.level);
+            if (data != null) {
+                for (TreeSet<IndexChunkSpec> al : data.values()) {
+                    al.subSet(chunkAt(tile.getStart()), chunkAt(tile.getStop())).clear();
                 }
-                if (grpName == null) {
-                    nameparts = id.getName().split("[_\\.]", 2);
-                    if (nameparts.length > 1) {
-                        grpName = nameparts[0];
-                        shortName = nameparts[1].replaceFirst("INST_", "").replaceFirst("Tlm_Pkt_", "");
-                    } else {
-                        grpName = "";
-                        shortName = id.getName();
-                    }
+            }
+        }
+    }
+
+    private void addRecords(List<ArchiveRecord> records, HashMap<String, TreeSet<IndexChunkSpec>> data,
+            long merge, long clipStart, long clipStop) {
+        String[] nameparts;
+        // progressMonitor.setProgress(30);
+        // progressMonitor.setNote("Receiving data");
+
+        for (ArchiveRecord r : records) {
+            // debugLog(r.packet+"\t"+r.num+"\t"+new Date(r.first)+"\t"+new Date(r.last));
+            NamedObjectId id = r.getId();
+            String grpName = null;
+            String shortName = null;
+            // split the id into group->name
+            if (!id.hasNamespace()) {
+                int idx = id.getName().lastIndexOf("/");
+                if (idx != -1) {
+                    grpName = id.getName().substring(0, idx + 1);
+                    shortName = id.getName().substring(idx + 1);
                 }
-                if (!tmData.containsKey(id.getName())) {
-                    tmData.put(id.getName(), new TreeSet<IndexChunkSpec>());
+            }
+            if (grpName == null) {
+                nameparts = id.getName().split("[_\\.]", 2);
+                if (nameparts.length > 1) {
+                    grpName = nameparts[0];
+                    shortName = nameparts[1].replaceFirst("INST_", "").replaceFirst("Tlm_Pkt_", "");
+                } else {
+                    grpName = "";
+                    shortName = id.getName();
                 }
-                TreeSet<IndexChunkSpec> al = tmData.get(id.getName());
-                long first = Instant.ofEpochSecond(r.getFirst().getSeconds()).toEpochMilli();
-                long last = Instant.ofEpochSecond(r.getLast().getSeconds()).toEpochMilli();
-                IndexChunkSpec tnew = new IndexChunkSpec(first, last, r.getNum(), null);
-                IndexChunkSpec told = al.floor(tnew);
-                if ((told == null) || (mergeTime == -1) || (!told.merge(tnew, mergeTime))) {
-                    al.add(tnew);
+            }
+            if (!data.containsKey(id.getName())) {
+                data.put(id.getName(), new TreeSet<IndexChunkSpec>());
+            }
+            TreeSet<IndexChunkSpec> al = data.get(id.getName());
+            long first = Instant.ofEpochSecond(r.getFirst().getSeconds()).toEpochMilli();
+            long last = Instant.ofEpochSecond(r.getLast().getSeconds()).toEpochMilli();
+            first = Math.max(first, clipStart);
+            last = Math.min(last, clipStop - 1);
+            if (first > last) {
+                continue;
+            }
+            IndexChunkSpec tnew = new IndexChunkSpec(first, last, r.getNum(), null);
+            IndexChunkSpec told = al.floor(tnew);
+            // chunks of a neighbouring tile are not extended
+            if ((told == null) || (merge == -1) || (told.startInstant < clipStart) || (!told.merge(tnew, merge))) {
+                al.add(tnew);
+            }
+            if (!allPackets.containsKey(id.getName())) {
+                IndexLineSpec pkt = new IndexLineSpec(id.getName(), grpName, shortName);
+                allPackets.put(id.getName(), pkt);
+                ArrayList<IndexLineSpec> plvec;
+                if ((plvec = groups.get(grpName)) == null) {
+                    plvec = new ArrayList<>();
+                    groups.put(grpName, plvec);
                 }
-                if (!allPackets.containsKey(id.getName())) {
-                    IndexLineSpec pkt = new IndexLineSpec(id.getName(), grpName, shortName);
-                    allPackets.put(id.getName(), pkt);
-                    ArrayList<IndexLineSpec> plvec;
-                    if ((plvec = groups.get(grpName)) == null) {
-                        plvec = new ArrayList<>();
-                        groups.put(grpName, plvec);
+                plvec.add(pkt);
+            }
+        }
+    }
+
+    private static IndexChunkSpec chunkAt(long instant) {
+        return new IndexChunkSpec(instant, instant, 0, null);
+    }
+
+    /**
+     * Returns the chunks of a line within the current zoom. Where the zoom is finer than the complete interval, chunks
+     * of loaded tiles are used, and the coarse chunks of the complete interval elsewhere.
+     *
+     * @return null if there is no data for the line
+     */
+    private Collection<IndexChunkSpec> getVisibleChunks(String lineName) {
+        synchronized (tmData) {
+            TreeSet<IndexChunkSpec> base = tmData.get(lineName);
+            IndexTiles tiles = dataView.tiles;
+            int level = IndexTile.getLevel(zoom.pixelRatio);
+            if (!tiles.isTiled(level)) {
+                return (base == null) ? null : new ArrayList<>(base);
+            }
+
+            HashMap<String, TreeSet<IndexChunkSpec>> data = tileData.get(level);
+            TreeSet<IndexChunkSpec> fine = (data == null) ? null : data.get(lineName);
+            if (base == null && fine == null) {
+                return null;
+            }
+            List<IndexChunkSpec> chunks = new ArrayList<>();
+            for (IndexTile tile : tiles.getTiles(level, zoom.startInstant, zoom.stopInstant)) {
+                TreeSet<IndexChunkSpec> source = tiles.isLoaded(tile) ? fine : base;
+                if (source != null) {
+                    if (chunks.isEmpty()) {
+                        // a chunk may start before the first tile
+                        IndexChunkSpec previous = source.lower(chunkAt(tile.getStart()));
+                        if (previous != null && previous.stopInstant >= tile.getStart()) {
+                            chunks.add(previous);
+                        }
                     }
-                    plvec.add(pkt);
+                    chunks.addAll(source.subSet(chunkAt(tile.getStart()), chunkAt(tile.getStop())));
                 }
             }
-            titleLabel.setText(name);
+            return chunks;
+        }
+    }
+
+    public void startReloading(long baseResolution) {
+        synchronized (tmData) {
+            this.baseResolution = baseResolution;
+            allPackets.clear();
+            groups.clear();
+            tmData.clear();
+            tileData.clear();
         }
     }
 
-    public void startReloading() {
-        allPackets.clear();
-        groups.clear();
-        tmData.clear();
+    /**
+     * Redraws the lines of the current zoom, after tiles were loaded or evicted.
+     */
+    void refreshTimelines() {
+        if (zoom == null) {
+            return;
+        }
+        for (IndexLine line : indexLines) {
+            redrawTmPanel(line.pkt);
+        }
     }
 
     public List<String> getPacketsForSelection(Selection selection) {
@@ -283,7 +389,7 @@ public class IndexBox extends Box {
             x1 += 600;
         } while (x1 < panelw - pktlab.getSize().width);
 
-        TreeSet<IndexChunkSpec> ts = tmData.get(pkt.lineName);
+        Collection<IndexChunkSpec> ts = getVisibleChunks(pkt.lineName);
         if (ts != null) {
             Timeline tmt = new Timeline(this, pkt, ts, zoom, in.left);
             tmt.setBounds(in.left, y, stopx, tmRowHeight);
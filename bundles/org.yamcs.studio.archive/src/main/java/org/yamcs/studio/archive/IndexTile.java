@@ -0,0 +1,78 @@
+package org.yamcs.studio.archive;
+
+import java.util.Objects;
+
+/**
+ * A time range of the archive index that is fetched at once, at the resolution of a zoom level.
+ * <p>
+ * At level {@code n}, records are merged into buckets of {@code 2^n} milliseconds, and a tile spans {@link #BUCKETS}
+ * of these buckets. Tiles of the same level do not overlap. Tiles belong to one load of the archive index, so that
+ * records of an earlier load are not mixed with those of the current one.
+ */
+public class IndexTile {
+
+    static final int BUCKETS = 1024;
+    private static final int MAX_LEVEL = 40;
+
+    final int generation;
+    final int level;
+    final long index;
+
+    IndexTile(int generation, int level, long index) {
+        this.generation = generation;
+        this.level = level;
+        this.index = index;
+    }
+
+    /**
+     * Returns the finest level whose buckets are not larger than a pixel.
+     *
+     * @param pixelRatio
+     *            ms per pixel
+     */
+    static int getLevel(double pixelRatio) {
+        if (pixelRatio < 2) {
+            return 0;
+        }
+        return Math.min(MAX_LEVEL, 63 - Long.numberOfLeadingZeros((long) pixelRatio));
+    }
+
+    static long getResolution(int level) {
+        return 1L << level;
+    }
+
+    static long getSpan(int level) {
+        return getResolution(level) * BUCKETS;
+    }
+
+    long getResolution() {
+        return getResolution(level);
+    }
+
+    long getStart() {
+        return index * getSpan(level);
+    }
+
+    long getStop() {
+        return getStart() + getSpan(level);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof IndexTile)) {
+            return false;
+        }
+        IndexTile other = (IndexTile) obj;
+        return generation == other.generation && level == other.level && index == other.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(generation, level, index);
+    }
+
+    @Override
+    public String toString() {
+        return "level: " + level + " start: " + getStart() + " stop: " + getStop();
+    }
+}
@@ -0,0 +1,130 @@
+package org.yamcs.studio.archive;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of the index tiles that are loaded, or being loaded, for the current archive interval.
+ * <p>
+ * The complete interval is loaded once at a base level that matches the unzoomed view. Tiles are only used for levels
+ * finer than that. The least recently used tiles are evicted when more than {@link #MAX_TILES} are loaded. Tiles that
+ * failed to load are requested again after {@link #RETRY_DELAY}.
+ */
+class IndexTiles {
+
+    static final int MAX_TILES = 64;
+    static final long RETRY_DELAY = 10000; // ms
+
+    private int generation = 0;
+    private int baseLevel = 0;
+
+    private Set<IndexTile> pending = new HashSet<>();
+    private Map<IndexTile, Long> failedTimes = new HashMap<>();
+    private LinkedHashSet<IndexTile> loaded = new LinkedHashSet<>();
+
+    /**
+     * Forgets all tiles, for a new load of the archive index.
+     *
+     * @param baseLevel
+     *            the level at which the complete interval is loaded. 0 if the complete interval is loaded without
+     *            merging records, in which case no tiles are needed.
+     */
+    synchronized void reset(int baseLevel) {
+        generation++;
+        this.baseLevel = baseLevel;
+        pending.clear();
+        failedTimes.clear();
+        loaded.clear();
+    }
+
+    /**
+     * @return true if the given level is finer than the base level, and should be shown from tiles.
+     */
+    synchronized boolean isTiled(int level) {
+        return level < baseLevel;
+    }
+
+    /**
+     * @return the tiles of the given level that cover the given range.
+     */
+    synchronized List<IndexTile> getTiles(int level, long start, long stop) {
+        List<IndexTile> tiles = new ArrayList<>();
+        long span = IndexTile.getSpan(level);
+        long last = Math.floorDiv(stop, span);
+        for (long i = Math.floorDiv(start, span); i <= last; i++) {
+            tiles.add(new IndexTile(generation, level, i));
+        }
+        return tiles;
+    }
+
+    /**
+     * Marks the tiles covering the given range as used, and returns those that still need to be fetched. These are
+     * then pending until {@link #finished(IndexTile)} or {@link #failed(IndexTile)} is called. Tiles that failed less
+     * than {@link #RETRY_DELAY} ago are not returned.
+     */
+    synchronized List<IndexTile> request(int level, long start, long stop) {
+        List<IndexTile> missing = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (IndexTile tile : getTiles(level, start, stop)) {
+            if (loaded.remove(tile)) {
+                loaded.add(tile);
+            } else if (!pending.contains(tile)) {
+                Long failedTime = failedTimes.get(tile);
+                if (failedTime == null || now - failedTime >= RETRY_DELAY) {
+                    failedTimes.remove(tile);
+                    pending.add(tile);
+                    missing.add(tile);
+                }
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * @return true if records of the given tile are expected. Records of tiles that were reset are to be dropped.
+     */
+    synchronized boolean isPending(IndexTile tile) {
+        return pending.contains(tile);
+    }
+
+    synchronized boolean isLoaded(IndexTile tile) {
+        return loaded.contains(tile);
+    }
+
+    /**
+     * Marks a pending tile as loaded.
+     *
+     * @return the tiles that were evicted to make room for it. Their records should be removed.
+     */
+    synchronized List<IndexTile> finished(IndexTile tile) {
+        List<IndexTile> evicted = new ArrayList<>();
+        if (pending.remove(tile)) {
+            loaded.add(tile);
+            Iterator<IndexTile> it = loaded.iterator();
+            while (loaded.size() - evicted.size() > MAX_TILES && it.hasNext()) {
+                evicted.add(it.next());
+            }
+            loaded.removeAll(evicted);
+        }
+        return evicted;
+    }
+
+    /**
+     * Marks a pending tile as failed, so that it is not requested again before {@link #RETRY_DELAY} has passed.
+     *
+     * @return true if the tile was pending. Its partially received records should then be removed.
+     */
+    synchronized boolean failed(IndexTile tile) {
+        if (pending.remove(tile)) {
+            failedTimes.put(tile, System.currentTimeMillis());
+            return true;
+        }
+        return false;
+    }
+}
@@ -7,7 +7,7 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.util.TreeSet;
+import java.util.Collection;
 
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
@@ -19,13 +19,13 @@ class Timeline extends JPanel {
     private static final long serialVersionUID = 1L;
     private static final Color BLUEISH = new Color(135, 206, 250);
     private final IndexBox tmBox;
-    TreeSet<IndexChunkSpec> tmspec;
+    Collection<IndexChunkSpec> tmspec;
     IndexLineSpec pkt;
     ZoomSpec zoom;
     int leftDelta; //we have to move everything to the left with this amount (because this component is in a bordered parent)
     BufferedImage image = null;
 
-    Timeline(IndexBox tmBox, IndexLineSpec pkt, TreeSet<IndexChunkSpec> tmspec, ZoomSpec zoom, int leftDelta) {
+    Timeline(IndexBox tmBox, IndexLineSpec pkt, Collection<IndexChunkSpec> tmspec, ZoomSpec zoom, int leftDelta) {
         super();
         setBorder(BorderFactory.createEmptyBorder());
         this.tmBox = tmBox;
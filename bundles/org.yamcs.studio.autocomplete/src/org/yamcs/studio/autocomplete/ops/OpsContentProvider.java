@@ -1,10 +1,9 @@
 package org.yamcs.studio.autocomplete.ops;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.yamcs.protobuf.Mdb.ParameterInfo;
-import org.yamcs.protobuf.Yamcs.NamedObjectId;
 import org.yamcs.studio.autocomplete.AutoCompleteHelper;
 import org.yamcs.studio.autocomplete.AutoCompleteResult;
 import org.yamcs.studio.autocomplete.IAutoCompleteProvider;
@@ -25,6 +24,9 @@ import org.yamcs.studio.core.YamcsPlugin;
  */
 public class OpsContentProvider implements IAutoCompleteProvider {
 
+    // Incremented on each cancel, so that a lookup can detect it has become obsolete
+    private final AtomicInteger lookupCount = new AtomicInteger();
+
     @Override
     public boolean accept(ContentType type) {
         return type == ContentType.PVName;
@@ -32,6 +34,7 @@ public class OpsContentProvider implements IAutoCompleteProvider {
 
     @Override
     public AutoCompleteResult listResult(ContentDescriptor desc, int limit) {
+        int lookup = lookupCount.get();
         String content = desc.getValue();
         if (content.startsWith(OpsContentParser.OPS_SOURCE)) {
             content = content.substring(OpsContentParser.OPS_SOURCE.length());
@@ -42,41 +45,31 @@ public class OpsContentProvider implements IAutoCompleteProvider {
         namePattern = Pattern.compile(namePattern.pattern(), Pattern.CASE_INSENSITIVE);
 
         AutoCompleteResult pvs = new AutoCompleteResult();
-        int matchCount = 0;
+        AtomicInteger matchCount = new AtomicInteger();
         MissionDatabase mdb = YamcsPlugin.getMissionDatabase();
         if (mdb != null) {
-            for (ParameterInfo para : mdb.getParameters()) {
-                String opsname = findOpsname(para);
-                if (opsname != null) {
-                    String proposalValue = OpsContentParser.OPS_SOURCE + opsname;
-                    Matcher m = namePattern.matcher(proposalValue);
-                    if (m.find()) {
-                        Proposal p = new Proposal(proposalValue, false);
-                        p.addStyle(ProposalStyle.getDefault(m.start(), m.end() - 1));
-                        pvs.addProposal(p);
-                        matchCount++;
-                        if (matchCount >= limit) {
-                            break;
-                        }
-                    }
+            Matcher m = namePattern.matcher("");
+            mdb.getOpsNameIndex().forEachCandidate(content, opsname -> {
+                if (lookupCount.get() != lookup) {
+                    return false; // Cancelled
+                }
+                m.reset(opsname);
+                if (m.find()) {
+                    int offset = OpsContentParser.OPS_SOURCE.length();
+                    Proposal p = new Proposal(OpsContentParser.OPS_SOURCE + opsname, false);
+                    p.addStyle(ProposalStyle.getDefault(offset + m.start(), offset + m.end() - 1));
+                    pvs.addProposal(p);
+                    return matchCount.incrementAndGet() < limit;
                 }
-            }
+                return true;
+            });
         }
-        pvs.setCount(matchCount);
+        pvs.setCount(matchCount.get());
         return pvs;
     }
 
-    private String findOpsname(ParameterInfo parameter) {
-        for (NamedObjectId id : parameter.getAliasList()) {
-            if (id.hasNamespace() && "MDB:OPS Name".equals(id.getNamespace())) {
-                return id.getName();
-            }
-        }
-        return null;
-    }
-
     @Override
-    public synchronized void cancel() {
-        // NOP, our search code should be fast enough to not cause problems
+    public void cancel() {
+        lookupCount.incrementAndGet();
     }
 }
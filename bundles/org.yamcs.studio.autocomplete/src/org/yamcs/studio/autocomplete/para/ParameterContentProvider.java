@@ -1,13 +1,9 @@
 package org.yamcs.studio.autocomplete.para;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.yamcs.protobuf.Mdb.MemberInfo;
-import org.yamcs.protobuf.Mdb.ParameterInfo;
-import org.yamcs.protobuf.Mdb.ParameterTypeInfo;
 import org.yamcs.studio.autocomplete.AutoCompleteHelper;
 import org.yamcs.studio.autocomplete.AutoCompleteResult;
 import org.yamcs.studio.autocomplete.IAutoCompleteProvider;
@@ -28,6 +24,9 @@ import org.yamcs.studio.core.YamcsPlugin;
  */
 public class ParameterContentProvider implements IAutoCompleteProvider {
 
+    // Incremented on each cancel, so that a lookup can detect it has become obsolete
+    private final AtomicInteger lookupCount = new AtomicInteger();
+
     @Override
     public boolean accept(ContentType type) {
         return type == ContentType.PVName;
@@ -43,6 +42,7 @@ public class ParameterContentProvider implements IAutoCompleteProvider {
 
     @Override
     public AutoCompleteResult listResult(ContentDescriptor desc, int limit) {
+        int lookup = lookupCount.get();
         String content = desc.getValue();
         if (content.startsWith(getPrefix())) {
             content = content.substring(getPrefix().length());
@@ -55,58 +55,34 @@ public class ParameterContentProvider implements IAutoCompleteProvider {
         Pattern namePattern = AutoCompleteHelper.convertToPattern(content);
         namePattern = Pattern.compile(namePattern.pattern(), Pattern.CASE_INSENSITIVE);
 
+        String proposalPrefix = requirePrefix() ? getPrefix() : "";
         AutoCompleteResult result = new AutoCompleteResult();
-        int matchCount = 0;
+        AtomicInteger matchCount = new AtomicInteger();
         MissionDatabase mdb = YamcsPlugin.getMissionDatabase();
         if (mdb != null) {
-            for (ParameterInfo para : mdb.getParameters()) {
-                List<String> pvCandidates = new ArrayList<>();
-                pvCandidates.add(para.getQualifiedName());
-                if (para.hasType()) {
-                    scanTypeForPvCandidates(para.getQualifiedName(), para.getType(), pvCandidates);
-                }
-
-                for (String pvCandidate : pvCandidates) {
-                    String proposalValue = requirePrefix() ? getPrefix() + pvCandidate : pvCandidate;
-                    Matcher m = namePattern.matcher(proposalValue);
-                    if (m.find()) {
-                        Proposal p = new Proposal(proposalValue, false);
-                        p.addStyle(ProposalStyle.getDefault(m.start(), m.end() - 1));
-                        result.addProposal(p);
-                        matchCount++;
-                        if (matchCount >= limit) {
-                            break;
-                        }
-                    }
+            Matcher m = namePattern.matcher("");
+            mdb.getParameterNameIndex().forEachCandidate(content, pvCandidate -> {
+                if (lookupCount.get() != lookup) {
+                    return false; // Cancelled
                 }
-
-                if (matchCount >= limit) {
-                    break;
+                m.reset(pvCandidate);
+                if (m.find()) {
+                    int offset = proposalPrefix.length();
+                    Proposal p = new Proposal(proposalPrefix + pvCandidate, false);
+                    p.addStyle(ProposalStyle.getDefault(offset + m.start(), offset + m.end() - 1));
+                    result.addProposal(p);
+                    return matchCount.incrementAndGet() < limit;
                 }
-            }
+                return true;
+            });
         }
 
-        result.setCount(matchCount);
+        result.setCount(matchCount.get());
         return result;
     }
 
-    private void scanTypeForPvCandidates(String basePvName, ParameterTypeInfo type, List<String> pvCandidates) {
-        for (MemberInfo member : type.getMemberList()) {
-            String memberPvName = basePvName + "." + member.getName();
-            pvCandidates.add(memberPvName);
-            if (member.hasType()) {
-                scanTypeForPvCandidates(memberPvName, member.getType(), pvCandidates);
-            }
-        }
-        if (type.hasArrayInfo()) {
-            String entryPvName = basePvName + "[]";
-            ParameterTypeInfo entryType = type.getArrayInfo().getType();
-            scanTypeForPvCandidates(entryPvName, entryType, pvCandidates);
-        }
-    }
-
     @Override
-    public synchronized void cancel() {
-        // NOP, our search code should be fast enough to not cause problems
+    public void cancel() {
+        lookupCount.incrementAndGet();
     }
 }
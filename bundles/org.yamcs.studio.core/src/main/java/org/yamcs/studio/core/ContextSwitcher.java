@@ -13,15 +13,11 @@ import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.swt.widgets.Display;
 import org.yamcs.client.ClientException;
 import org.yamcs.client.ClientException.ExceptionData;
-import org.yamcs.client.Page;
 import org.yamcs.client.YamcsClient;
-import org.yamcs.client.mdb.MissionDatabaseClient;
-import org.yamcs.client.mdb.MissionDatabaseClient.ListOptions;
 import org.yamcs.protobuf.GetServerInfoResponse;
-import org.yamcs.protobuf.Mdb.CommandInfo;
-import org.yamcs.protobuf.Mdb.ParameterInfo;
 import org.yamcs.protobuf.ProcessorInfo;
 import org.yamcs.protobuf.UserInfo;
+import org.yamcs.protobuf.YamcsInstance;
 
 /**
  * A job that helps to switch context (instance/processor) while keeping the same YamcsClient.
@@ -152,27 +148,11 @@ public class ContextSwitcher implements IRunnableWithProgress {
 
     private MissionDatabase loadMissionDatabase(IProgressMonitor monitor)
             throws InterruptedException, java.util.concurrent.ExecutionException {
-        monitor.subTask("Loading mission database");
-        MissionDatabase missionDatabase = new MissionDatabase();
-
-        MissionDatabaseClient mdbClient = yamcsClient.createMissionDatabaseClient(instance);
-        log.fine("Fetching available parameters");
-        Page<ParameterInfo> page = mdbClient.listParameters(ListOptions.limit(500)).get();
-        page.iterator().forEachRemaining(missionDatabase::addParameter);
-        while (page.hasNextPage()) {
-            page = page.getNextPage().get();
-            page.iterator().forEachRemaining(missionDatabase::addParameter);
-        }
+        monitor.subTask("Fetching instance info");
+        CompletableFuture<YamcsInstance> instanceFuture = yamcsClient.getInstance(instance);
+        RCPUtils.monitorCancellableFuture(monitor, instanceFuture);
+        YamcsInstance instanceInfo = instanceFuture.get();
 
-        log.fine("Fetching available commands");
-        Page<CommandInfo> commandPage = mdbClient.listCommands(ListOptions.limit(200)).get();
-        commandPage.iterator().forEachRemaining(missionDatabase::addCommand);
-        while (commandPage.hasNextPage()) {
-            commandPage = commandPage.getNextPage().get();
-            commandPage.iterator().forEachRemaining(missionDatabase::addCommand);
-        }
-        log.info(String.format("Loaded %d parameters and %d commands", missionDatabase.getParameterCount(),
-                missionDatabase.getCommandCount()));
-        return missionDatabase;
+        return new MissionDatabaseLoader(yamcsClient, serverInfo, instanceInfo).load(monitor);
     }
 }
@@ -22,7 +22,15 @@ public class MissionDatabase {
     private Map<String, CommandInfo> commandsByQualifiedName = new LinkedHashMap<>();
     private Map<NamedObjectId, String> unitsById = new ConcurrentHashMap<>();
 
+    // Search indexes, built on first use
+    private SearchIndex parameterNameIndex;
+    private SearchIndex opsNameIndex;
+
     public void addParameter(ParameterInfo parameter) {
+        synchronized (this) {
+            parameterNameIndex = null;
+            opsNameIndex = null;
+        }
         parameters.add(parameter);
         NamedObjectId id = NamedObjectId.newBuilder().setName(parameter.getQualifiedName()).build();
         parametersById.put(id, parameter);
@@ -65,6 +73,16 @@ public class MissionDatabase {
         return commands;
     }
 
+    /**
+     * Returns true if both contain the same parameters and commands, regardless of the order in which they were added.
+     */
+    public boolean hasSameContent(MissionDatabase other) {
+        return getParameterCount() == other.getParameterCount()
+                && getCommandCount() == other.getCommandCount()
+                && getParameters().equals(other.getParameters())
+                && getCommands().equals(other.getCommands());
+    }
+
     /**
      * Returns the ParameterInfo for an ID, the ID may also point to an aggregate member or an array entry, the returned
      * ParameterInfo will then match the containing parameter.
@@ -128,6 +146,58 @@ public class MissionDatabase {
         return null;
     }
 
+    /**
+     * Returns an index over the qualified names of all parameters, including the paths to their aggregate members and
+     * array entries (for example: <code>/a/b.member[].x</code>). Names are sorted by parameter.
+     */
+    public synchronized SearchIndex getParameterNameIndex() {
+        if (parameterNameIndex == null) {
+            List<String> names = new ArrayList<>();
+            for (ParameterInfo parameter : getParameters()) {
+                names.add(parameter.getQualifiedName());
+                if (parameter.hasType()) {
+                    addMemberPaths(parameter.getQualifiedName(), parameter.getType(), names);
+                }
+            }
+            parameterNameIndex = new SearchIndex(names);
+        }
+        return parameterNameIndex;
+    }
+
+    /**
+     * Returns an index over the OPS names of all parameters that have one. Names are sorted by parameter.
+     */
+    public synchronized SearchIndex getOpsNameIndex() {
+        if (opsNameIndex == null) {
+            List<String> names = new ArrayList<>();
+            for (ParameterInfo parameter : getParameters()) {
+                for (NamedObjectId alias : parameter.getAliasList()) {
+                    if (alias.hasNamespace() && "MDB:OPS Name".equals(alias.getNamespace())) {
+                        names.add(alias.getName());
+                        break;
+                    }
+                }
+            }
+            opsNameIndex = new SearchIndex(names);
+        }
+        return opsNameIndex;
+    }
+
+    private static void addMemberPaths(String basePath, ParameterTypeInfo type, List<String> paths) {
+        for (MemberInfo member : type.getMemberList()) {
+            String memberPath = basePath + "." + member.getName();
+            paths.add(memberPath);
+            if (member.hasType()) {
+                addMemberPaths(memberPath, member.getType(), paths);
+            }
+        }
+        if (type.hasArrayInfo()) {
+            String entryPath = basePath + "[]";
+            ParameterTypeInfo entryType = type.getArrayInfo().getType();
+            addMemberPaths(entryPath, entryType, paths);
+        }
+    }
+
     public String getCombinedUnit(NamedObjectId id) {
         return unitsById.get(id);
     }
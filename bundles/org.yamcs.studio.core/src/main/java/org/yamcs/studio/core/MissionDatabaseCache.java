@@ -0,0 +1,210 @@
+package org.yamcs.studio.core;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.yamcs.protobuf.Mdb.CommandInfo;
+import org.yamcs.protobuf.Mdb.ParameterInfo;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+
+/**
+ * Local binary copy of the Mission Database of each server instance.
+ * <p>
+ * Each copy is stored under a fingerprint of the server-side Mission Database, so that a copy can be recognized as
+ * current without fetching anything else from the server. Files are only written once, and read through a memory
+ * mapping.
+ */
+public class MissionDatabaseCache {
+
+    private static final Logger log = Logger.getLogger(MissionDatabaseCache.class.getName());
+
+    private static final int MAGIC = 0x4D444243; // MDBC
+    private static final int FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".mdb";
+
+    private final Path directory;
+
+    public MissionDatabaseCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Reads the cached Mission Database of an instance.
+     *
+     * @return the cached entry, or null if there is no usable entry for this instance. The entry's fingerprint may
+     *         differ from the requested one if only an older copy is available.
+     */
+    public CachedMissionDatabase read(String serverId, String instance, byte[] fingerprint) {
+        Path instanceDir = getInstanceDirectory(serverId, instance);
+        Path file = instanceDir.resolve(toFileName(fingerprint));
+        if (!Files.exists(file)) {
+            file = findMostRecent(instanceDir);
+            if (file == null) {
+                return null;
+            }
+        }
+
+        long t0 = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CodedInputStream in = CodedInputStream.newInstance(buf);
+            in.setSizeLimit(Integer.MAX_VALUE);
+            if (in.readFixed32() != MAGIC || in.readUInt32() != FORMAT_VERSION) {
+                log.fine("Ignoring cached mission database of unsupported format " + file);
+                return null;
+            }
+            byte[] cachedFingerprint = in.readByteArray();
+
+            MissionDatabase missionDatabase = new MissionDatabase();
+            int parameterCount = in.readUInt32();
+            for (int i = 0; i < parameterCount; i++) {
+                missionDatabase.addParameter(in.readMessage(ParameterInfo.parser(),
+                        ExtensionRegistryLite.getEmptyRegistry()));
+            }
+            int commandCount = in.readUInt32();
+            for (int i = 0; i < commandCount; i++) {
+                missionDatabase.addCommand(in.readMessage(CommandInfo.parser(),
+                        ExtensionRegistryLite.getEmptyRegistry()));
+            }
+
+            log.fine(String.format("Read %d parameters and %d commands from %s in %d ms", parameterCount,
+                    commandCount, file, System.currentTimeMillis() - t0));
+            return new CachedMissionDatabase(cachedFingerprint, missionDatabase);
+        } catch (IOException | RuntimeException e) {
+            log.log(Level.WARNING, "Failed to read cached mission database " + file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the Mission Database of an instance, and removes older copies for the same instance.
+     */
+    public void write(String serverId, String instance, byte[] fingerprint, MissionDatabase missionDatabase) {
+        Path instanceDir = getInstanceDirectory(serverId, instance);
+        Path file = instanceDir.resolve(toFileName(fingerprint));
+        try {
+            Files.createDirectories(instanceDir);
+            Path tmpFile = Files.createTempFile(instanceDir, null, ".tmp");
+            try {
+                try (OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(tmpFile))) {
+                    CodedOutputStream out = CodedOutputStream.newInstance(fileOut);
+                    out.writeFixed32NoTag(MAGIC);
+                    out.writeUInt32NoTag(FORMAT_VERSION);
+                    out.writeByteArrayNoTag(fingerprint);
+
+                    List<ParameterInfo> parameters = missionDatabase.getParameters();
+                    out.writeUInt32NoTag(parameters.size());
+                    for (ParameterInfo parameter : parameters) {
+                        out.writeMessageNoTag(parameter);
+                    }
+                    List<CommandInfo> commands = missionDatabase.getCommands();
+                    out.writeUInt32NoTag(commands.size());
+                    for (CommandInfo command : commands) {
+                        out.writeMessageNoTag(command);
+                    }
+                    out.flush();
+                }
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Failed to cache mission database", e);
+            return;
+        }
+
+        // Best effort. Files that are still mapped may not be deletable on all platforms.
+        for (Path other : listCacheFiles(instanceDir)) {
+            if (!other.equals(file)) {
+                try {
+                    Files.deleteIfExists(other);
+                } catch (IOException e) {
+                    log.log(Level.FINE, "Could not delete outdated cache file " + other, e);
+                }
+            }
+        }
+    }
+
+    private Path getInstanceDirectory(String serverId, String instance) {
+        return directory.resolve((serverId + "_" + instance).replaceAll("[^\\w.-]", "_"));
+    }
+
+    private static Path findMostRecent(Path instanceDir) {
+        Path mostRecent = null;
+        long mostRecentModified = Long.MIN_VALUE;
+        for (Path file : listCacheFiles(instanceDir)) {
+            try {
+                long modified = Files.getLastModifiedTime(file).toMillis();
+                if (modified > mostRecentModified) {
+                    mostRecent = file;
+                    mostRecentModified = modified;
+                }
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+        return mostRecent;
+    }
+
+    private static List<Path> listCacheFiles(Path instanceDir) {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(instanceDir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(instanceDir, "*" + EXTENSION)) {
+                stream.forEach(files::add);
+            } catch (IOException e) {
+                log.log(Level.FINE, "Could not list " + instanceDir, e);
+            }
+        }
+        return files;
+    }
+
+    private static String toFileName(byte[] fingerprint) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint);
+            StringBuilder buf = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                buf.append(String.format("%02x", digest[i]));
+            }
+            return buf.append(EXTENSION).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class CachedMissionDatabase {
+
+        private final byte[] fingerprint;
+        private final MissionDatabase missionDatabase;
+
+        CachedMissionDatabase(byte[] fingerprint, MissionDatabase missionDatabase) {
+            this.fingerprint = fingerprint;
+            this.missionDatabase = missionDatabase;
+        }
+
+        public boolean matches(byte[] fingerprint) {
+            return Arrays.equals(this.fingerprint, fingerprint);
+        }
+
+        public MissionDatabase getMissionDatabase() {
+            return missionDatabase;
+        }
+    }
+}
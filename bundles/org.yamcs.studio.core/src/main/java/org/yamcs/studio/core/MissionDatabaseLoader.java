@@ -0,0 +1,197 @@
+package org.yamcs.studio.core;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.yamcs.client.Page;
+import org.yamcs.client.YamcsClient;
+import org.yamcs.client.mdb.MissionDatabaseClient;
+import org.yamcs.client.mdb.MissionDatabaseClient.ListOptions;
+import org.yamcs.protobuf.GetServerInfoResponse;
+import org.yamcs.protobuf.YamcsInstance;
+import org.yamcs.studio.core.MissionDatabaseCache.CachedMissionDatabase;
+
+/**
+ * Provides the Mission Database of an instance, preferably from the local {@link MissionDatabaseCache}.
+ * <p>
+ * A cached copy is used immediately, while the actual Mission Database is fetched in the background. If its content
+ * differs from the cached copy, it replaces the Mission Database in use. The fingerprint only selects the most
+ * suitable cached copy: it holds the version and item counts, which do not change with every edit of limits,
+ * calibrations or command arguments. Only if there is no cached copy at all, loading blocks until the Mission Database
+ * was fetched from the server.
+ */
+public class MissionDatabaseLoader {
+
+    private static final Logger log = Logger.getLogger(MissionDatabaseLoader.class.getName());
+
+    /**
+     * Number of items to request per page
+     */
+    public static final String PREF_PAGE_SIZE = "mdbPageSize";
+    private static final int DEFAULT_PAGE_SIZE = 500;
+
+    private static final ExecutorService BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Mission Database Loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private YamcsClient yamcsClient;
+    private GetServerInfoResponse serverInfo;
+    private YamcsInstance instanceInfo;
+
+    public MissionDatabaseLoader(YamcsClient yamcsClient, GetServerInfoResponse serverInfo,
+            YamcsInstance instanceInfo) {
+        this.yamcsClient = yamcsClient;
+        this.serverInfo = serverInfo;
+        this.instanceInfo = instanceInfo;
+    }
+
+    public MissionDatabase load(IProgressMonitor monitor) throws InterruptedException, ExecutionException {
+        MissionDatabaseCache cache = YamcsPlugin.getMissionDatabaseCache();
+        byte[] fingerprint = getFingerprint();
+        if (cache == null || fingerprint == null) {
+            return fetch(monitor);
+        }
+
+        String serverId = serverInfo.getServerId();
+        String instance = instanceInfo.getName();
+
+        monitor.subTask("Loading cached mission database");
+        CachedMissionDatabase cached = cache.read(serverId, instance, fingerprint);
+        if (cached != null) {
+            if (cached.matches(fingerprint)) {
+                log.fine("Using cached mission database. Revalidating in background");
+            } else {
+                log.info("Cached mission database is outdated. Refreshing in background");
+            }
+            BACKGROUND_EXECUTOR.execute(() -> {
+                try {
+                    MissionDatabase missionDatabase = fetch(new NullProgressMonitor());
+                    if (!missionDatabase.hasSameContent(cached.getMissionDatabase())) {
+                        YamcsPlugin.updateMissionDatabase(yamcsClient, instance, missionDatabase);
+                        cache.write(serverId, instance, fingerprint, missionDatabase);
+                    } else if (!cached.matches(fingerprint)) {
+                        cache.write(serverId, instance, fingerprint, missionDatabase);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    log.log(Level.WARNING, "Failed to refresh mission database", e.getCause());
+                }
+            });
+            return cached.getMissionDatabase();
+        } else {
+            MissionDatabase missionDatabase = fetch(monitor);
+            BACKGROUND_EXECUTOR.execute(() -> cache.write(serverId, instance, fingerprint, missionDatabase));
+            return missionDatabase;
+        }
+    }
+
+    /**
+     * Returns a fingerprint of the server-side Mission Database, or null if the server does not provide enough
+     * information.
+     */
+    private byte[] getFingerprint() {
+        if (serverInfo.hasServerId() && instanceInfo.hasMissionDatabase()) {
+            return instanceInfo.getMissionDatabase().toByteArray();
+        }
+        return null;
+    }
+
+    /**
+     * Fetches parameters and commands concurrently. Within each listing, the next page is already requested while the
+     * items of the current page are being added.
+     */
+    private MissionDatabase fetch(IProgressMonitor monitor) throws InterruptedException, ExecutionException {
+        monitor.subTask("Loading mission database");
+        MissionDatabase missionDatabase = new MissionDatabase();
+
+        int pageSize = YamcsPlugin.getDefault().getPreferenceStore().getInt(PREF_PAGE_SIZE);
+        if (pageSize <= 0) {
+            pageSize = DEFAULT_PAGE_SIZE;
+        }
+
+        // Parameters and commands are stored separately in MissionDatabase,
+        // and each listing adds its items from only one callback at a time.
+        AtomicInteger parameterCount = new AtomicInteger();
+        AtomicInteger commandCount = new AtomicInteger();
+        MissionDatabaseClient mdbClient = yamcsClient.createMissionDatabaseClient(instanceInfo.getName());
+        long t0 = System.currentTimeMillis();
+        log.fine("Fetching available parameters and commands");
+        CompletableFuture<Void> parametersFuture = fetchAll(mdbClient.listParameters(ListOptions.limit(pageSize)),
+                parameter -> {
+                    missionDatabase.addParameter(parameter);
+                    parameterCount.incrementAndGet();
+                });
+        CompletableFuture<Void> commandsFuture = fetchAll(mdbClient.listCommands(ListOptions.limit(pageSize)),
+                command -> {
+                    missionDatabase.addCommand(command);
+                    commandCount.incrementAndGet();
+                });
+
+        CompletableFuture<Void> allFuture = CompletableFuture.allOf(parametersFuture, commandsFuture);
+        while (!allFuture.isDone()) {
+            if (monitor.isCanceled()) {
+                parametersFuture.cancel(true);
+                commandsFuture.cancel(true);
+                throw new CancellationException();
+            }
+            try {
+                allFuture.get(200, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                long elapsed = Math.max(1, System.currentTimeMillis() - t0);
+                int itemCount = parameterCount.get() + commandCount.get();
+                monitor.subTask(String.format("Loading mission database: %,d parameters, %,d commands (%,d/s)",
+                        parameterCount.get(), commandCount.get(), itemCount * 1000L / elapsed));
+            }
+        }
+        allFuture.get();
+
+        log.info(String.format("Loaded %d parameters and %d commands in %d ms", missionDatabase.getParameterCount(),
+                missionDatabase.getCommandCount(), System.currentTimeMillis() - t0));
+        return missionDatabase;
+    }
+
+    private static <T> CompletableFuture<Void> fetchAll(CompletableFuture<Page<T>> firstPage, Consumer<T> consumer) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        firstPage.whenComplete((page, exc) -> processPage(page, exc, consumer, result));
+        return result;
+    }
+
+    private static <T> void processPage(Page<T> page, Throwable exc, Consumer<T> consumer,
+            CompletableFuture<Void> result) {
+        if (exc != null) {
+            result.completeExceptionally(exc instanceof CompletionException ? exc.getCause() : exc);
+            return;
+        } else if (result.isDone()) { // Cancelled
+            return;
+        }
+
+        CompletableFuture<Page<T>> nextPage = page.hasNextPage() ? page.getNextPage() : null;
+        try {
+            page.iterator().forEachRemaining(consumer);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        if (nextPage == null) {
+            result.complete(null);
+        } else {
+            nextPage.whenComplete((next, nextExc) -> processPage(next, nextExc, consumer, result));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.yamcs.studio.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable index over a list of names, used for fast substring lookups such as autocompletion.
+ * <p>
+ * Names are kept in the order they were given. Each distinct trigram of a lower-cased name maps to the sorted list of
+ * name positions that contain it. A query with wildcards (<code>*</code> and <code>?</code>) is reduced to its literal
+ * fragments, and only names that contain all trigrams of these fragments are considered candidates. Queries that are
+ * too short for trigrams fall back to a scan of the lower-cased names.
+ */
+public class SearchIndex {
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final String[] names;
+    private final String[] lowerCaseNames;
+    private final Map<Long, int[]> postingsByTrigram;
+
+    public SearchIndex(List<String> names) {
+        this.names = names.toArray(new String[names.size()]);
+        lowerCaseNames = new String[this.names.length];
+
+        Map<Long, PostingList> postings = new HashMap<>();
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i < this.names.length; i++) {
+            String lowerCaseName = this.names[i].toLowerCase(Locale.ROOT);
+            lowerCaseNames[i] = lowerCaseName;
+
+            trigrams.clear();
+            addTrigrams(lowerCaseName, trigrams);
+            for (Long trigram : trigrams) {
+                postings.computeIfAbsent(trigram, x -> new PostingList()).add(i);
+            }
+        }
+
+        postingsByTrigram = new HashMap<>(postings.size() * 4 / 3 + 1);
+        postings.forEach((trigram, list) -> postingsByTrigram.put(trigram, list.toArray()));
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Passes each name that possibly matches the query to the given consumer, in index order. Candidates contain all
+     * literal fragments of the query (case-insensitive), but may still need verification against the exact query
+     * semantics (e.g. the relative position of fragments).
+     *
+     * @param query
+     *            search query, where <code>*</code> and <code>?</code> are treated as wildcards
+     * @param consumer
+     *            receives candidate names. Return <code>false</code> to stop the search.
+     */
+    public void forEachCandidate(String query, Predicate<String> consumer) {
+        List<String> fragments = toLowerCaseFragments(query);
+
+        Set<Long> trigrams = new HashSet<>();
+        for (String fragment : fragments) {
+            addTrigrams(fragment, trigrams);
+        }
+
+        if (trigrams.isEmpty()) { // Short query, scan
+            for (int i = 0; i < names.length; i++) {
+                if (containsAll(lowerCaseNames[i], fragments) && !consumer.test(names[i])) {
+                    return;
+                }
+            }
+            return;
+        }
+
+        List<int[]> lists = new ArrayList<>(trigrams.size());
+        for (Long trigram : trigrams) {
+            int[] list = postingsByTrigram.getOrDefault(trigram, NO_POSTINGS);
+            if (list.length == 0) {
+                return;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] smallest = lists.get(0);
+        candidates: for (int idx : smallest) {
+            for (int j = 1; j < lists.size(); j++) {
+                if (Arrays.binarySearch(lists.get(j), idx) < 0) {
+                    continue candidates;
+                }
+            }
+            if (containsAll(lowerCaseNames[idx], fragments) && !consumer.test(names[idx])) {
+                return;
+            }
+        }
+    }
+
+    private static boolean containsAll(String lowerCaseName, List<String> fragments) {
+        for (String fragment : fragments) {
+            if (!lowerCaseName.contains(fragment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> toLowerCaseFragments(String query) {
+        List<String> fragments = new ArrayList<>();
+        for (String fragment : query.toLowerCase(Locale.ROOT).split("[\\*\\?]+")) {
+            if (!fragment.isEmpty()) {
+                fragments.add(fragment);
+            }
+        }
+        return fragments;
+    }
+
+    private static void addTrigrams(String s, Set<Long> trigrams) {
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            long trigram = ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+            trigrams.add(trigram);
+        }
+    }
+
+    private static final class PostingList {
+        private int[] items = new int[4];
+        private int size;
+
+        void add(int item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = item;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
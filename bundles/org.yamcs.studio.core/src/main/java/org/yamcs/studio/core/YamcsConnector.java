@@ -2,6 +2,7 @@ package org.yamcs.studio.core;
 
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Paths;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -12,13 +13,8 @@ import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 import org.yamcs.client.ClientException;
-import org.yamcs.client.Page;
 import org.yamcs.client.YamcsClient;
-import org.yamcs.client.mdb.MissionDatabaseClient;
-import org.yamcs.client.mdb.MissionDatabaseClient.ListOptions;
 import org.yamcs.protobuf.GetServerInfoResponse;
-import org.yamcs.protobuf.Mdb.CommandInfo;
-import org.yamcs.protobuf.Mdb.ParameterInfo;
 import org.yamcs.protobuf.UserInfo;
 import org.yamcs.protobuf.YamcsInstance;
 import org.yamcs.studio.connect.YamcsConfiguration;
@@ -63,11 +59,17 @@ public class YamcsConnector implements IRunnableWithProgress {
                     log.warning("Instance '" + holder.instance + "' does not have any active processors");
                 }
 
-                holder.missionDatabase = loadMissionDatabase(monitor, holder.yamcsClient, holder.instance);
+                holder.missionDatabase = loadMissionDatabase(monitor, holder.yamcsClient, holder.serverInfo,
+                        instanceInfo);
             }
 
             YamcsPlugin.updateEntities(holder);
             YamcsPlugin.listeners().forEachRemaining(l -> l.onYamcsConnected());
+        } catch (CancellationException e) {
+            if (holder.yamcsClient != null) {
+                holder.yamcsClient.close();
+            }
+            log.fine("Connection cancelled");
         } catch (BootstrapException e) {
             if (holder.yamcsClient != null) {
                 holder.yamcsClient.close();
@@ -144,31 +146,11 @@ public class YamcsConnector implements IRunnableWithProgress {
         }
     }
 
-    private MissionDatabase loadMissionDatabase(IProgressMonitor monitor, YamcsClient client, String instance)
+    private MissionDatabase loadMissionDatabase(IProgressMonitor monitor, YamcsClient client,
+            GetServerInfoResponse serverInfo, YamcsInstance instanceInfo)
             throws InterruptedException, BootstrapException {
-        monitor.subTask("Loading mission database");
-        MissionDatabase missionDatabase = new MissionDatabase();
-
-        MissionDatabaseClient mdbClient = client.createMissionDatabaseClient(instance);
         try {
-            log.fine("Fetching available parameters");
-            Page<ParameterInfo> page = mdbClient.listParameters(ListOptions.limit(500)).get();
-            page.iterator().forEachRemaining(missionDatabase::addParameter);
-            while (page.hasNextPage()) {
-                page = page.getNextPage().get();
-                page.iterator().forEachRemaining(missionDatabase::addParameter);
-            }
-
-            log.fine("Fetching available commands");
-            Page<CommandInfo> commandPage = mdbClient.listCommands(ListOptions.limit(200)).get();
-            commandPage.iterator().forEachRemaining(missionDatabase::addCommand);
-            while (commandPage.hasNextPage()) {
-                commandPage = commandPage.getNextPage().get();
-                commandPage.iterator().forEachRemaining(missionDatabase::addCommand);
-            }
-            log.info(String.format("Loaded %d parameters and %d commands", missionDatabase.getParameterCount(),
-                    missionDatabase.getCommandCount()));
-            return missionDatabase;
+            return new MissionDatabaseLoader(client, serverInfo, instanceInfo).load(monitor);
         } catch (ExecutionException e) {
             throw new BootstrapException("Failed to load mission database", e);
         }
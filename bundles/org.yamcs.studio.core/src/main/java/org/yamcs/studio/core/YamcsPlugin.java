@@ -1,5 +1,6 @@
 package org.yamcs.studio.core;
 
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -16,6 +17,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.core.runtime.Platform;
@@ -62,7 +64,9 @@ public class YamcsPlugin extends AbstractUIPlugin {
 
     private String instance;
     private ProcessorInfo processor;
-    private MissionDatabase missionDatabase;
+    // Replaced from the background loader, read from the UI and subscription threads
+    private volatile MissionDatabase missionDatabase;
+    private MissionDatabaseCache missionDatabaseCache;
     private GetServerInfoResponse serverInfo;
     private UserInfo userInfo;
 
@@ -187,6 +191,7 @@ public class YamcsPlugin extends AbstractUIPlugin {
             pluginService.dispose();
         }
 
+        PVFactory.getInstance().dispose();
         if (PVFactory.SIMPLE_PV_THREAD != null) {
             PVFactory.SIMPLE_PV_THREAD.shutdown();
         }
@@ -303,6 +308,34 @@ public class YamcsPlugin extends AbstractUIPlugin {
         return plugin.missionDatabase;
     }
 
+    /**
+     * Replaces the Mission Database of the current instance, for example after a background refresh. Ignored if the
+     * connection or instance has changed in the meantime.
+     */
+    public static void updateMissionDatabase(YamcsClient yamcsClient, String instance,
+            MissionDatabase missionDatabase) {
+        if (plugin.yamcsClient == yamcsClient && instance.equals(plugin.instance)) {
+            log.info(String.format("Updated mission database (%d parameters and %d commands)",
+                    missionDatabase.getParameterCount(), missionDatabase.getCommandCount()));
+            plugin.missionDatabase = missionDatabase;
+        }
+    }
+
+    /**
+     * Returns the local cache of Mission Databases, or null if there is no location to store it.
+     */
+    public static synchronized MissionDatabaseCache getMissionDatabaseCache() {
+        if (plugin.missionDatabaseCache == null) {
+            try {
+                Path directory = plugin.getStateLocation().append("mdb-cache").toFile().toPath();
+                plugin.missionDatabaseCache = new MissionDatabaseCache(directory);
+            } catch (IllegalStateException e) {
+                log.log(Level.WARNING, "No location for caching mission databases", e);
+            }
+        }
+        return plugin.missionDatabaseCache;
+    }
+
     public static Instant getMissionTime() {
         return getMissionTime(false);
     }
@@ -1,15 +1,28 @@
 package org.yamcs.studio.data;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.yamcs.studio.data.formula.CompiledFormula;
+import org.yamcs.studio.data.vtype.Alarm;
+import org.yamcs.studio.data.vtype.Array;
+import org.yamcs.studio.data.vtype.Scalar;
+import org.yamcs.studio.data.vtype.Time;
 import org.yamcs.studio.data.vtype.VType;
 
 public class FormulaData implements IPVListener {
 
+    private static final Logger log = Logger.getLogger(FormulaData.class.getName());
+
     private CompiledFormula formula;
 
+    // Result of the last evaluation. Only recomputed when an input changes.
+    private volatile VType value;
+    private volatile boolean dirty = true;
+
     // PVs that this formula depends on
     private Set<IPV> inputs = new HashSet<>();
 
@@ -39,7 +52,25 @@ public class FormulaData implements IPVListener {
     }
 
     public VType getValue() {
-        return (VType) formula.execute();
+        if (dirty) {
+            synchronized (this) {
+                if (dirty) {
+                    value = evaluate();
+                    dirty = false;
+                }
+            }
+        }
+        return value;
+    }
+
+    private VType evaluate() {
+        try {
+            return (VType) formula.execute();
+        } catch (RuntimeException e) {
+            // For example, when not all inputs have a value yet
+            log.log(Level.FINE, "Could not evaluate formula", e);
+            return null;
+        }
     }
 
     void register(IPV pv) {
@@ -68,6 +99,7 @@ public class FormulaData implements IPVListener {
                 input.removeListener(this);
                 input.stop();
             }
+            dirty = true;
             pv.notifyConnectionChange();
             pv.notifyValueChange();
         }
@@ -84,8 +116,57 @@ public class FormulaData implements IPVListener {
 
     @Override
     public void valueChanged(IPV input) {
-        formula.updateInput(input.getName(), input.getValue());
-        pvs.forEach(pv -> pv.notifyValueChange());
+        boolean changed;
+        synchronized (this) {
+            formula.updateInput(input.getName(), input.getValue());
+            VType newValue = evaluate();
+            changed = dirty || !isSameValue(value, newValue);
+            value = newValue;
+            dirty = false;
+        }
+        if (changed) {
+            pvs.forEach(pv -> pv.notifyValueChange());
+        }
+    }
+
+    /**
+     * Returns true if both values have the same data, alarm and time. Values for which this cannot be determined
+     * cheaply are considered different.
+     */
+    private static boolean isSameValue(VType a, VType b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || a.getClass() != b.getClass()) {
+            return false;
+        }
+
+        if (a instanceof Scalar) {
+            if (!Objects.equals(((Scalar) a).getValue(), ((Scalar) b).getValue())) {
+                return false;
+            }
+        } else if (a instanceof Array) {
+            if (!Objects.equals(((Array) a).getData(), ((Array) b).getData())) {
+                return false;
+            }
+        } else {
+            return false;
+        }
+
+        if (a instanceof Alarm) {
+            Alarm alarmA = (Alarm) a;
+            Alarm alarmB = (Alarm) b;
+            if (alarmA.getAlarmSeverity() != alarmB.getAlarmSeverity()
+                    || !Objects.equals(alarmA.getAlarmName(), alarmB.getAlarmName())) {
+                return false;
+            }
+        }
+        if (a instanceof Time) {
+            if (!Objects.equals(((Time) a).getTimestamp(), ((Time) b).getTimestamp())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
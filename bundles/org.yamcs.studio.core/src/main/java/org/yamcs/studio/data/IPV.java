@@ -11,7 +11,9 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.yamcs.protobuf.Yamcs.NamedObjectId;
 import org.yamcs.studio.data.vtype.VType;
+import org.yamcs.studio.data.yamcs.YamcsSubscriptionService;
 
 public class IPV {
 
@@ -21,6 +23,11 @@ public class IPV {
     private final long id;
     private final String name;
     private final Executor notificationThread;
+    private final NotificationCoalescer coalescer;
+
+    // Only set for PVs that map to a Yamcs parameter
+    private final NamedObjectId yamcsId;
+    private final boolean raw;
 
     private AtomicBoolean started = new AtomicBoolean(false); // start() has been called (fully executed or not)
     private AtomicBoolean starting = new AtomicBoolean(false); // PV is during start
@@ -32,11 +39,19 @@ public class IPV {
 
     private List<IPVListener> listeners = new CopyOnWriteArrayList<>();
 
-    IPV(String name, Datasource datasource, Executor notificationThread) {
+    IPV(String name, Datasource datasource, Executor notificationThread, NotificationCoalescer coalescer) {
         id = SEQ.getAndIncrement();
         this.name = Objects.requireNonNull(name);
         this.datasource = Objects.requireNonNull(datasource);
         this.notificationThread = Objects.requireNonNull(notificationThread);
+        this.coalescer = coalescer;
+        if (datasource instanceof ParameterDatasource) {
+            yamcsId = YamcsSubscriptionService.identityOf(name);
+            raw = name.startsWith("raw://");
+        } else {
+            yamcsId = null;
+            raw = false;
+        }
         log.fine(String.format("Creating PV %s", this));
     }
 
@@ -64,6 +79,25 @@ public class IPV {
         return name;
     }
 
+    Executor getNotificationThread() {
+        return notificationThread;
+    }
+
+    /**
+     * Returns the Yamcs identifier of this PV, resolved once at creation time. This is <code>null</code> for PVs that
+     * are not directly registered with the Yamcs parameter datasource.
+     */
+    public NamedObjectId getYamcsId() {
+        return yamcsId;
+    }
+
+    /**
+     * Returns true if this PV requests the raw value of a Yamcs parameter, rather than the engineering value.
+     */
+    public boolean isRaw() {
+        return raw;
+    }
+
     /**
      * Get the most recent value of the PV in last update cycle that has values. {@link VTypeHelper} and ValueUtil can
      * be used to get the number or string value, alarm, display, time stamp etc. from the {@link VType} value and help
@@ -90,7 +124,19 @@ public class IPV {
         listeners.forEach(l -> l.connectionChanged(this));
     }
 
+    /**
+     * Called by datasources when the value of this PV was updated. If this PV was created with a maximum update rate,
+     * listeners are notified later on the notification thread, coalescing any intermediate updates.
+     */
     public void notifyValueChange() {
+        if (coalescer != null) {
+            coalescer.markDirty(this);
+        } else {
+            fireValueChange();
+        }
+    }
+
+    void fireValueChange() {
         if (getValue() != null) {
             listeners.forEach(l -> l.valueChanged(this));
         }
@@ -0,0 +1,120 @@
+package org.yamcs.studio.data;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Limits the rate at which value changes of {@link IPV}s are forwarded to their listeners.
+ * <p>
+ * Value changes only mark a PV as dirty. Once per tick, all dirty PVs are drained and notified on their notification
+ * thread. Because listeners read the current value of the PV, the latest value always wins and intermediate samples
+ * within the same tick are skipped.
+ */
+public class NotificationCoalescer {
+
+    private static final Logger log = Logger.getLogger(NotificationCoalescer.class.getName());
+
+    private final long period;
+    private final ScheduledFuture<?> tick;
+
+    private final Set<IPV> dirty = ConcurrentHashMap.newKeySet();
+
+    // PVs for which a delivery was handed to the notification thread, but did not run yet.
+    // These are kept dirty, so that a slow notification thread does not build up a backlog.
+    private final Set<IPV> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    NotificationCoalescer(long period, ScheduledExecutorService timer) {
+        this.period = period;
+        tick = timer.scheduleAtFixedRate(this::drain, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Minimum time in milliseconds between two value notifications of the same PV.
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    void markDirty(IPV pv) {
+        received.incrementAndGet();
+        if (!dirty.add(pv)) {
+            coalesced.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+        Iterator<IPV> it = dirty.iterator();
+        while (it.hasNext()) {
+            IPV pv = it.next();
+            if (!pv.isStarted()) {
+                it.remove();
+                dropped.incrementAndGet();
+            } else if (inFlight.add(pv)) {
+                it.remove();
+                try {
+                    pv.getNotificationThread().execute(() -> {
+                        inFlight.remove(pv);
+                        delivered.incrementAndGet();
+                        pv.fireValueChange();
+                    });
+                } catch (Exception e) { // Rejected. Normally only on shutdown
+                    inFlight.remove(pv);
+                    dropped.incrementAndGet();
+                    log.log(Level.FINE, "Could not deliver value of PV " + pv, e);
+                }
+            }
+        }
+    }
+
+    void dispose() {
+        tick.cancel(false);
+        dirty.clear();
+        inFlight.clear();
+    }
+
+    /**
+     * Number of value changes that were received from datasources.
+     */
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    /**
+     * Number of value changes that were merged into an earlier pending notification.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Number of notifications that were actually forwarded to listeners.
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * Number of pending notifications that were discarded, because the PV was stopped in the meantime.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d ms: received=%d, coalesced=%d, delivered=%d, dropped=%d",
+                period, getReceivedCount(), getCoalescedCount(), getDeliveredCount(), getDroppedCount());
+    }
+}
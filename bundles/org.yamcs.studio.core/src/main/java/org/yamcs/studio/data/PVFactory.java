@@ -1,10 +1,16 @@
 package org.yamcs.studio.data;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 public class PVFactory {
 
@@ -17,6 +23,13 @@ public class PVFactory {
 
     private List<Datasource> datasources = new ArrayList<>();
 
+    // PVs of the same name share a single connection to their datasource
+    private PVPool pool = new PVPool(this::findDatasource);
+
+    // Coalescers by update period, sharing a single timer thread
+    private Map<Long, NotificationCoalescer> coalescers = new ConcurrentHashMap<>();
+    private ScheduledExecutorService coalescerTimer;
+
     private PVFactory() {
         datasources.add(new FormulaDatasource()); // =
         datasources.add(new LocalDatasource()); // loc://
@@ -51,14 +64,77 @@ public class PVFactory {
      *            listener or pv write listener will be notified on read or write exceptions respectively.
      */
     public IPV createPV(String name, boolean readOnly, Executor notificationThread, ExceptionHandler exceptionHandler) {
-        Datasource datasource = null;
+        return createPV(name, readOnly, notificationThread, exceptionHandler, 0);
+    }
+
+    /**
+     * Create a PV whose value notifications are rate-limited.
+     *
+     * @param name
+     *            name of the PV. Must not be null.
+     * @param readOnly
+     *            true if the client doesn't need to write to the PV.
+     * @param notificationThread
+     *            the thread on which the read and write listener will be notified. Must not be null.
+     * @param exceptionHandler
+     *            the handler to handle all exceptions happened in pv connection layer. If this is null, pv read
+     *            listener or pv write listener will be notified on read or write exceptions respectively.
+     * @param maxUpdatePeriod
+     *            the minimum time in milliseconds between two value notifications. Updates arriving faster are
+     *            coalesced, only the latest value is notified. Use 0 to notify every update immediately.
+     */
+    public IPV createPV(String name, boolean readOnly, Executor notificationThread, ExceptionHandler exceptionHandler,
+            long maxUpdatePeriod) {
+        Objects.requireNonNull(findDatasource(PVPool.normalize(name)));
+        NotificationCoalescer coalescer = null;
+        if (maxUpdatePeriod > 0) {
+            coalescer = getCoalescer(maxUpdatePeriod);
+        }
+        return new IPV(name, pool, notificationThread, coalescer);
+    }
+
+    private Datasource findDatasource(String name) {
         for (Datasource candidate : datasources) {
             if (candidate.supportsPVName(name)) {
-                datasource = candidate;
-                break;
+                return candidate;
             }
         }
-        return new IPV(name, datasource, notificationThread);
+        return null;
+    }
+
+    /**
+     * Returns the pool of shared PV connections. Can be used to inspect how many PVs share a connection.
+     */
+    public PVPool getPool() {
+        return pool;
+    }
+
+    private synchronized NotificationCoalescer getCoalescer(long period) {
+        if (coalescerTimer == null) {
+            coalescerTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "PV Coalescer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return coalescers.computeIfAbsent(period, x -> new NotificationCoalescer(period, coalescerTimer));
+    }
+
+    /**
+     * Returns the active coalescers, one for each distinct update period in use. Can be used to inspect update
+     * statistics.
+     */
+    public Collection<NotificationCoalescer> getNotificationCoalescers() {
+        return Collections.unmodifiableCollection(coalescers.values());
+    }
+
+    public synchronized void dispose() {
+        coalescers.values().forEach(NotificationCoalescer::dispose);
+        coalescers.clear();
+        if (coalescerTimer != null) {
+            coalescerTimer.shutdown();
+            coalescerTimer = null;
+        }
     }
 
     public static synchronized ExecutorService getDefaultPVNotificationThread() {
@@ -0,0 +1,197 @@
+package org.yamcs.studio.data;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.yamcs.studio.data.vtype.VType;
+
+/**
+ * Shares a single underlying PV between all started PVs of the same name.
+ * <p>
+ * PVs handed out by {@link PVFactory} are lightweight handles that use this pool as their datasource. The first handle
+ * to start creates and starts a source PV on the actual datasource, and later handles attach to it. Events of the
+ * source PV are forwarded to all attached handles. When the last handle stops, the source PV is stopped as well.
+ */
+public class PVPool implements Datasource {
+
+    private static final Logger log = Logger.getLogger(PVPool.class.getName());
+
+    private final Function<String, Datasource> datasourceResolver;
+
+    // Entries by normalized PV name. Modifications are synchronized on this pool.
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong reuseCount = new AtomicLong();
+
+    PVPool(Function<String, Datasource> datasourceResolver) {
+        this.datasourceResolver = datasourceResolver;
+    }
+
+    static String normalize(String pvName) {
+        return pvName.trim();
+    }
+
+    @Override
+    public boolean supportsPVName(String pvName) {
+        return true;
+    }
+
+    @Override
+    public boolean isConnected(IPV pv) {
+        Entry entry = entries.get(normalize(pv.getName()));
+        return entry != null && entry.source.isConnected();
+    }
+
+    @Override
+    public boolean isWriteAllowed(IPV pv) {
+        Entry entry = entries.get(normalize(pv.getName()));
+        return entry != null && entry.source.isWriteAllowed();
+    }
+
+    @Override
+    public VType getValue(IPV pv) {
+        Entry entry = entries.get(normalize(pv.getName()));
+        return entry != null ? entry.source.getValue() : null;
+    }
+
+    @Override
+    public void writeValue(IPV pv, Object value, WriteCallback callback) {
+        String name = normalize(pv.getName());
+        Entry entry = entries.get(name);
+        if (entry != null) {
+            entry.datasource.writeValue(entry.source, value, callback);
+        } else { // Writing does not require the PV to be started
+            Datasource datasource = datasourceResolver.apply(name);
+            IPV source = new IPV(name, datasource, PVFactory.getDefaultPVNotificationThread(), null);
+            datasource.writeValue(source, value, callback);
+        }
+    }
+
+    @Override
+    public void onStarted(IPV pv) {
+        String name = normalize(pv.getName());
+        requestCount.incrementAndGet();
+        Entry entry;
+        boolean created = false;
+        synchronized (this) {
+            entry = entries.get(name);
+            if (entry == null) {
+                Datasource datasource = datasourceResolver.apply(name);
+                IPV source = new IPV(name, datasource, PVFactory.getDefaultPVNotificationThread(), null);
+                entry = new Entry(datasource, source);
+                entries.put(name, entry);
+                created = true;
+            } else {
+                reuseCount.incrementAndGet();
+            }
+            entry.handles.add(pv);
+        }
+
+        if (created) {
+            entry.source.addListener(entry);
+            entry.source.start();
+        } else if (entry.source.isConnected()) {
+            // Catch up with the state of the shared source
+            pv.notifyConnectionChange();
+            pv.notifyWritePermissionChange();
+            if (entry.source.getValue() != null) {
+                pv.notifyValueChange();
+            }
+        }
+    }
+
+    @Override
+    public void onStopped(IPV pv) {
+        String name = normalize(pv.getName());
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(name);
+            if (entry == null || !entry.handles.remove(pv) || !entry.handles.isEmpty()) {
+                return;
+            }
+            entries.remove(name);
+        }
+        log.fine(String.format("Releasing shared PV %s", entry.source));
+        entry.source.removeListener(entry);
+        entry.source.stop();
+    }
+
+    /**
+     * Number of distinct PVs that are currently connected to a datasource.
+     */
+    public int getSourceCount() {
+        return entries.size();
+    }
+
+    /**
+     * Number of started PVs that are attached to a shared source.
+     */
+    public int getHandleCount() {
+        int count = 0;
+        for (Entry entry : entries.values()) {
+            count += entry.handles.size();
+        }
+        return count;
+    }
+
+    /**
+     * Number of times a PV was started.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Number of times a started PV could attach to an already existing source.
+     */
+    public long getReuseCount() {
+        return reuseCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("sources=%d, handles=%d, requests=%d, reused=%d",
+                getSourceCount(), getHandleCount(), getRequestCount(), getReuseCount());
+    }
+
+    private static class Entry implements IPVListener {
+
+        final Datasource datasource;
+        final IPV source;
+        final Set<IPV> handles = new CopyOnWriteArraySet<>();
+
+        Entry(Datasource datasource, IPV source) {
+            this.datasource = datasource;
+            this.source = source;
+        }
+
+        @Override
+        public void connectionChanged(IPV pv) {
+            handles.forEach(IPV::notifyConnectionChange);
+        }
+
+        @Override
+        public void exceptionOccurred(IPV pv, Exception exception) {
+        }
+
+        @Override
+        public void valueChanged(IPV pv) {
+            handles.forEach(IPV::notifyValueChange);
+        }
+
+        @Override
+        public void writeFinished(IPV pv, boolean isWriteSucceeded) {
+        }
+
+        @Override
+        public void writePermissionChanged(IPV pv) {
+            handles.forEach(IPV::notifyWritePermissionChange);
+        }
+    }
+}
@@ -43,7 +43,7 @@ public class ParameterDatasource implements Datasource {
     @Override
     public void writeValue(IPV pv, Object value, WriteCallback callback) {
         try {
-            NamedObjectId id = YamcsSubscriptionService.identityOf(pv.getName());
+            NamedObjectId id = pv.getYamcsId();
 
             ParameterTypeInfo ptype = YamcsPlugin.getMissionDatabase().getParameterTypeInfo(id);
             Value v = toValue(ptype, value);
@@ -73,7 +73,7 @@ public class ParameterDatasource implements Datasource {
 
     @Override
     public VType getValue(IPV pv) {
-        return yamcsSubscription.getValue(pv.getName());
+        return yamcsSubscription.getValue(pv);
     }
 
     @Override
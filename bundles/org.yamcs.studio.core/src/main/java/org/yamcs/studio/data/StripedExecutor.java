@@ -0,0 +1,45 @@
+package org.yamcs.studio.data;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A set of single-threaded executors ("lanes"). Each key is pinned to one lane, so tasks for the same key keep their
+ * submission order, while tasks for different keys can run in parallel.
+ */
+public class StripedExecutor {
+
+    private final ExecutorService[] lanes;
+
+    /**
+     * @param name
+     *            prefix for the names of the worker threads
+     * @param laneCount
+     *            number of worker threads. Values smaller than 1 are treated as 1.
+     */
+    public StripedExecutor(String name, int laneCount) {
+        lanes = new ExecutorService[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            String threadName = lanes.length == 1 ? name : name + " #" + (i + 1);
+            lanes[i] = Executors.newSingleThreadExecutor(r -> new Thread(r, threadName));
+        }
+    }
+
+    /**
+     * Returns the lane to which the given key is pinned.
+     */
+    public Executor getLane(Object key) {
+        return lanes[Math.floorMod(key.hashCode(), lanes.length)];
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Map;
 import org.yamcs.studio.data.vtype.Alarm;
 import org.yamcs.studio.data.vtype.AlarmSeverity;
 import org.yamcs.studio.data.vtype.Array;
+import org.yamcs.studio.data.vtype.ArrayDouble;
 import org.yamcs.studio.data.vtype.CollectionNumbers;
 import org.yamcs.studio.data.vtype.Display;
 import org.yamcs.studio.data.vtype.ListByte;
@@ -58,6 +59,9 @@ public class VTypeHelper {
     public static final int MAX_FORMAT_VALUE_COUNT = 100;
     public static final String ARRAY_ELEMENT_SEPARATOR = ", ";
 
+    private static final double[] EMPTY_DOUBLE_ARRAY = new double[0];
+    private static final ListNumber EMPTY_LIST = new ArrayDouble(EMPTY_DOUBLE_ARRAY);
+
     private static Map<Integer, NumberFormat> expFormatCacheMap = new HashMap<>();
     private static Map<Integer, NumberFormat> decimalFormatCacheMap = new HashMap<>();
 
@@ -243,7 +247,8 @@ public class VTypeHelper {
     }
 
     /**
-     * Get double array from a VType object.
+     * Get double array from a VType object. Arrays of doubles are returned without copying, so the result must not be
+     * modified. Use {@link #getNumberList(VType)} to avoid copying other numeric arrays.
      *
      * @param obj
      *            an object implementing a standard type
@@ -251,23 +256,38 @@ public class VTypeHelper {
      *         input.
      */
     public static double[] getDoubleArray(VType obj) {
+        ListNumber list = getNumberList(obj);
+        if (list.size() == 0) {
+            return EMPTY_DOUBLE_ARRAY;
+        }
+        return ListNumberToDoubleArray(list);
+    }
+
+    /**
+     * Get the numbers of a VType object as a list, without copying the underlying array data.
+     *
+     * @param obj
+     *            an object implementing a standard type
+     * @return the data of a numeric array, the indexes of an enum array, a single element list for a numeric scalar,
+     *         or an empty list if no numbers can be extracted from the input.
+     */
+    public static ListNumber getNumberList(VType obj) {
         if (obj instanceof Scalar) {
             Object v = ((Scalar) obj).getValue();
             if (v instanceof Number) {
-                return new double[] { ((Number) v).doubleValue() };
+                return new ArrayDouble(((Number) v).doubleValue());
             }
         }
         if (obj instanceof Array) {
             Object array = ((Array) obj).getData();
             if (array instanceof ListNumber) {
-                return ListNumberToDoubleArray((ListNumber) array);
+                return (ListNumber) array;
             }
             if (obj instanceof VEnumArray) {
-                ListInt tArray = ((VEnumArray) obj).getIndexes();
-                return ListNumberToDoubleArray(tArray);
+                return ((VEnumArray) obj).getIndexes();
             }
         }
-        return new double[0];
+        return EMPTY_LIST;
     }
 
     /**
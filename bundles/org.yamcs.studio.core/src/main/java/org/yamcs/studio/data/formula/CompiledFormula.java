@@ -1,6 +1,6 @@
 package org.yamcs.studio.data.formula;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -9,20 +9,41 @@ import java.util.Map;
 import org.yamcs.studio.data.vtype.IVDouble;
 import org.yamcs.studio.data.vtype.IVInt;
 import org.yamcs.studio.data.vtype.IVString;
+import org.yamcs.studio.data.vtype.Time;
 import org.yamcs.studio.data.vtype.VType;
+import org.yamcs.studio.data.vtype.ValueFactory;
 
+/**
+ * A formula that is bound to its functions once, at construction time.
+ * <p>
+ * Each operator node remembers the function that was selected for the runtime types of its last arguments, so that
+ * function lookup only happens again when these types change.
+ */
 public class CompiledFormula {
 
     private FormulaAst rootNode;
-    private Map<String, VType> inputValues = new HashMap<>();
     private FormulaRegistry registry = FormulaRegistry.getDefault();
 
+    private Node compiledRoot;
+
+    // Current values of the channels, by slot
+    private Map<String, Integer> channelSlots = new HashMap<>();
+    private VType[] inputValues;
+
+    // Time of literals, captured once per evaluation
+    private Time evaluationTime;
+
     public CompiledFormula(String formulaString) {
         this.rootNode = FormulaAst.formula(formulaString);
+        compiledRoot = compile(rootNode);
+        inputValues = new VType[channelSlots.size()];
     }
 
     public void updateInput(String pvName, VType value) {
-        inputValues.put(pvName, value);
+        Integer slot = channelSlots.get(pvName);
+        if (slot != null) {
+            inputValues[slot] = value;
+        }
     }
 
     public List<String> getDependencies() {
@@ -30,41 +51,157 @@ public class CompiledFormula {
     }
 
     public Object execute() {
-        return executeExpression(rootNode);
+        evaluationTime = ValueFactory.timeNow();
+        return compiledRoot.evaluate();
     }
 
-    private Object executeExpression(FormulaAst node) {
+    private Node compile(FormulaAst node) {
         switch (node.getType()) {
         case OP:
             String func = (String) node.getValue();
-            return executeOP(func, node.getChildren());
+            List<FormulaAst> argNodes = node.getChildren();
+            Node[] args = new Node[argNodes.size()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = compile(argNodes.get(i));
+            }
+            return new OpNode(func, registry.findFunctions(func, args.length), args);
         case INTEGER:
-            return new IVInt((Integer) node.getValue());
         case FLOATING_POINT:
-            return new IVDouble((Double) node.getValue());
         case STRING:
-            return new IVString((String) node.getValue());
+            return new LiteralNode(node.getValue());
         case CHANNEL:
             String channelName = (String) node.getValue();
-            return inputValues.get(channelName);
+            Integer slot = channelSlots.get(channelName);
+            if (slot == null) {
+                slot = channelSlots.size();
+                channelSlots.put(channelName, slot);
+            }
+            return new ChannelNode(slot);
         case ID:
             String id = (String) node.getValue();
-            return registry.findNamedConstant(id);
+            return new ConstantNode(registry.findNamedConstant(id));
         default:
             throw new IllegalStateException("Unexpected node type " + node.getType());
         }
     }
 
-    private Object executeOP(String func, List<FormulaAst> argNodes) {
-        int cardinality = argNodes.size();
-        Collection<FormulaFunction> functions = registry.findFunctions(func, cardinality);
+    private static interface Node {
+        Object evaluate();
+    }
+
+    private static class ConstantNode implements Node {
+
+        private final Object value;
+
+        ConstantNode(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate() {
+            return value;
+        }
+    }
+
+    /**
+     * A literal takes the time of the evaluation, like a literal that is created on evaluation.
+     */
+    private class LiteralNode implements Node {
+
+        private final Object value;
+
+        private Time time;
+        private VType vType;
+
+        LiteralNode(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate() {
+            if (time != evaluationTime) {
+                time = evaluationTime;
+                if (value instanceof Integer) {
+                    vType = new IVInt((Integer) value, ValueFactory.alarmNone(), time, ValueFactory.displayNone());
+                } else if (value instanceof Double) {
+                    vType = new IVDouble((Double) value, ValueFactory.alarmNone(), time, ValueFactory.displayNone());
+                } else {
+                    vType = new IVString((String) value, ValueFactory.alarmNone(), time);
+                }
+            }
+            return vType;
+        }
+    }
+
+    private class ChannelNode implements Node {
+
+        private final int slot;
+
+        ChannelNode(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public Object evaluate() {
+            return inputValues[slot];
+        }
+    }
+
+    private static class OpNode implements Node {
+
+        private final String name;
+        private final Collection<FormulaFunction> candidates;
+        private final Node[] args;
+
+        // Call-site cache: function selected for the argument types of a previous evaluation
+        private Class<?>[] cachedTypes;
+        private FormulaFunction cachedFunction;
 
-        List<Object> argumentValues = new ArrayList<>(cardinality);
-        for (FormulaAst argNode : argNodes) {
-            argumentValues.add(executeExpression(argNode));
+        OpNode(String name, Collection<FormulaFunction> candidates, Node[] args) {
+            this.name = name;
+            this.candidates = candidates;
+            this.args = args;
         }
 
-        FormulaFunction func2 = FormulaFunctions.findFirstMatch(argumentValues, functions);
-        return func2.calculate(argumentValues);
+        @Override
+        public Object evaluate() {
+            Object[] argumentValues = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                argumentValues[i] = args[i].evaluate();
+            }
+            List<Object> argumentList = Arrays.asList(argumentValues);
+
+            FormulaFunction function = cachedFunction;
+            if (function == null || !matchesCachedTypes(argumentValues)) {
+                function = FormulaFunctions.findFirstMatch(argumentList, candidates);
+                if (function == null) {
+                    throw new IllegalArgumentException(
+                            String.format("No function %s matches arguments %s", name, argumentList));
+                }
+                cachedTypes = typesOf(argumentValues);
+                cachedFunction = function;
+            }
+            return function.calculate(argumentList);
+        }
+
+        private boolean matchesCachedTypes(Object[] argumentValues) {
+            for (int i = 0; i < argumentValues.length; i++) {
+                Object value = argumentValues[i];
+                Class<?> type = (value != null) ? value.getClass() : null;
+                if (type != cachedTypes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Class<?>[] typesOf(Object[] argumentValues) {
+            Class<?>[] types = new Class<?>[argumentValues.length];
+            for (int i = 0; i < argumentValues.length; i++) {
+                Object value = argumentValues[i];
+                types[i] = (value != null) ? value.getClass() : null;
+            }
+            return types;
+        }
     }
 }
@@ -16,15 +16,16 @@ public class AggregateArrayVType extends YamcsVType implements VStringArray {
 
     private List<String> data;
 
-    public AggregateArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public AggregateArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
 
-        data = new ArrayList<>();
+        data = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            Value aggregateValue = value.getArrayValue(i);
+            Value aggregateValue = arrayValue.getArrayValue(i);
             data.add(StringConverter.toString(aggregateValue));
         }
     }
@@ -5,8 +5,8 @@ import org.yamcs.studio.data.vtype.VString;
 
 public class AggregateVType extends YamcsVType implements VString {
 
-    public AggregateVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public AggregateVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, raw, display);
     }
 
     @Override
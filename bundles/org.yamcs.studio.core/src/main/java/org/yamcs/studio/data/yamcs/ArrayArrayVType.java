@@ -17,16 +17,17 @@ public class ArrayArrayVType extends YamcsVType implements VStringArray {
 
     private List<String> data;
 
-    public ArrayArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public ArrayArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
 
-        data = new ArrayList<>();
+        data = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            Value arrayValue = value.getArrayValue(i);
-            data.add(StringConverter.toString(arrayValue));
+            Value elementValue = arrayValue.getArrayValue(i);
+            data.add(StringConverter.toString(elementValue));
         }
     }
 
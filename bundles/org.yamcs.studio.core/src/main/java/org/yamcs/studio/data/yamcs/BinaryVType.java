@@ -5,8 +5,8 @@ import org.yamcs.studio.data.vtype.VString;
 
 public class BinaryVType extends YamcsVType implements VString {
 
-    public BinaryVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public BinaryVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, raw, display);
     }
 
     @Override
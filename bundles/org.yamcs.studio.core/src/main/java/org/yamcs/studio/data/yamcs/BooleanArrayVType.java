@@ -1,6 +1,7 @@
 package org.yamcs.studio.data.yamcs;
 
 import org.yamcs.protobuf.Pvalue.ParameterValue;
+import org.yamcs.protobuf.Yamcs.Value;
 import org.yamcs.studio.data.vtype.ArrayBoolean;
 import org.yamcs.studio.data.vtype.ArrayInt;
 import org.yamcs.studio.data.vtype.ListBoolean;
@@ -14,15 +15,16 @@ public class BooleanArrayVType extends YamcsVType implements VBooleanArray {
 
     private ArrayBoolean data;
 
-    public BooleanArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public BooleanArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
 
         boolean[] booleanValues = new boolean[size];
         for (int i = 0; i < booleanValues.length; i++) {
-            booleanValues[i] = value.getArrayValue(i).getBooleanValue();
+            booleanValues[i] = arrayValue.getArrayValue(i).getBooleanValue();
         }
         data = new ArrayBoolean(booleanValues);
     }
@@ -5,17 +5,20 @@ import org.yamcs.studio.data.vtype.VBoolean;
 
 public class BooleanVType extends YamcsVType implements VBoolean {
 
-    public BooleanVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final boolean booleanValue;
+
+    public BooleanVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        booleanValue = selectValue(pval, raw).getBooleanValue();
     }
 
     @Override
     public Boolean getValue() {
-        return value.getBooleanValue();
+        return booleanValue;
     }
 
     @Override
     public String toString() {
-        return Boolean.toString(value.getBooleanValue());
+        return Boolean.toString(booleanValue);
     }
 }
@@ -3,6 +3,7 @@ package org.yamcs.studio.data.yamcs;
 import java.util.List;
 
 import org.yamcs.protobuf.Pvalue.ParameterValue;
+import org.yamcs.protobuf.Yamcs.Value;
 import org.yamcs.studio.data.vtype.ArrayDimensionDisplay;
 import org.yamcs.studio.data.vtype.ArrayDouble;
 import org.yamcs.studio.data.vtype.ArrayInt;
@@ -19,16 +20,17 @@ public class DoubleArrayVType extends YamcsVType implements VDoubleArray {
 
     private ArrayDouble data;
 
-    public DoubleArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public DoubleArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
         dimensionDisplay = ValueUtil.defaultArrayDisplay(sizes);
 
         double[] doubleValues = new double[size];
         for (int i = 0; i < doubleValues.length; i++) {
-            doubleValues[i] = value.getArrayValue(i).getDoubleValue();
+            doubleValues[i] = arrayValue.getArrayValue(i).getDoubleValue();
         }
         data = new ArrayDouble(doubleValues);
     }
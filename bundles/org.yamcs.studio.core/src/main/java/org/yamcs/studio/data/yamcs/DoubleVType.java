@@ -5,17 +5,20 @@ import org.yamcs.studio.data.vtype.VDouble;
 
 public class DoubleVType extends YamcsVType implements VDouble {
 
-    public DoubleVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final double doubleValue;
+
+    public DoubleVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        doubleValue = selectValue(pval, raw).getDoubleValue();
     }
 
     @Override
     public Double getValue() {
-        return value.getDoubleValue();
+        return doubleValue;
     }
 
     @Override
     public String toString() {
-        return Double.toString(value.getDoubleValue());
+        return Double.toString(doubleValue);
     }
 }
@@ -20,21 +20,21 @@ public class EnumeratedArrayVType extends YamcsVType implements VEnumArray {
     private ListInt indexes;
     private List<String> data;
 
-    public EnumeratedArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public EnumeratedArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
 
-        List<Integer> indexes = new ArrayList<>();
-        data = new ArrayList<>();
+        int[] indexValues = new int[size];
+        data = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            Value enumValue = value.getArrayValue(i);
-            int index = (int) enumValue.getSint64Value();
-            indexes.add(index);
+            Value enumValue = arrayValue.getArrayValue(i);
+            indexValues[i] = (int) enumValue.getSint64Value();
             data.add(enumValue.getStringValue());
         }
-        this.indexes = new ArrayInt(indexes.stream().mapToInt(Integer::intValue).toArray());
+        indexes = new ArrayInt(indexValues);
     }
 
     @Override
@@ -8,23 +8,30 @@ import org.yamcs.protobuf.Mdb.EnumValue;
 import org.yamcs.protobuf.Mdb.ParameterTypeInfo;
 import org.yamcs.protobuf.Pvalue.ParameterValue;
 import org.yamcs.protobuf.Yamcs.NamedObjectId;
+import org.yamcs.protobuf.Yamcs.Value;
 import org.yamcs.studio.core.YamcsPlugin;
 import org.yamcs.studio.data.vtype.VEnum;
 
 public class EnumeratedVType extends YamcsVType implements VEnum {
 
-    public EnumeratedVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final int index;
+    private final String label;
+
+    public EnumeratedVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        Value enumValue = selectValue(pval, raw);
+        index = (int) enumValue.getSint64Value();
+        label = enumValue.getStringValue();
     }
 
     @Override
     public int getIndex() {
-        return (int) value.getSint64Value();
+        return index;
     }
 
     @Override
     public String getValue() {
-        return value.getStringValue();
+        return label;
     }
 
     @Override
@@ -61,6 +68,6 @@ public class EnumeratedVType extends YamcsVType implements VEnum {
     public String toString() {
         // Use String.valueOf, because it formats a nice "null" string
         // in case it is null
-        return String.valueOf(value.getStringValue());
+        return String.valueOf(label);
     }
 }
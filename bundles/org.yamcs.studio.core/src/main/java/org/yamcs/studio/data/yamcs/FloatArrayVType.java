@@ -3,6 +3,7 @@ package org.yamcs.studio.data.yamcs;
 import java.util.List;
 
 import org.yamcs.protobuf.Pvalue.ParameterValue;
+import org.yamcs.protobuf.Yamcs.Value;
 import org.yamcs.studio.data.vtype.ArrayDimensionDisplay;
 import org.yamcs.studio.data.vtype.ArrayFloat;
 import org.yamcs.studio.data.vtype.ArrayInt;
@@ -19,16 +20,17 @@ public class FloatArrayVType extends YamcsVType implements VFloatArray {
 
     private ListFloat data;
 
-    public FloatArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public FloatArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
         dimensionDisplay = ValueUtil.defaultArrayDisplay(sizes);
 
         float[] floatValues = new float[size];
         for (int i = 0; i < floatValues.length; i++) {
-            floatValues[i] = value.getArrayValue(i).getFloatValue();
+            floatValues[i] = arrayValue.getArrayValue(i).getFloatValue();
         }
         data = new ArrayFloat(floatValues);
     }
@@ -5,17 +5,20 @@ import org.yamcs.studio.data.vtype.VFloat;
 
 public class FloatVType extends YamcsVType implements VFloat {
 
-    public FloatVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final float floatValue;
+
+    public FloatVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        floatValue = selectValue(pval, raw).getFloatValue();
     }
 
     @Override
     public Float getValue() {
-        return value.getFloatValue();
+        return floatValue;
     }
 
     @Override
     public String toString() {
-        return Float.toString(value.getFloatValue());
+        return Float.toString(floatValue);
     }
 }
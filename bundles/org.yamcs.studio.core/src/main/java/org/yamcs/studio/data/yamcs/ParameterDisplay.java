@@ -0,0 +1,160 @@
+package org.yamcs.studio.data.yamcs;
+
+import java.text.NumberFormat;
+import java.util.List;
+
+import org.yamcs.protobuf.Mdb.AlarmLevelType;
+import org.yamcs.protobuf.Mdb.AlarmRange;
+import org.yamcs.protobuf.Pvalue.ParameterValue;
+import org.yamcs.studio.core.MissionDatabase;
+import org.yamcs.studio.core.YamcsPlugin;
+import org.yamcs.studio.data.vtype.Display;
+import org.yamcs.studio.data.vtype.NumberFormats;
+
+/**
+ * Immutable display information of a parameter: units from the {@link MissionDatabase}, and limits derived from the
+ * alarm ranges of a received value.
+ * <p>
+ * Consecutive values of a parameter usually carry the same alarm ranges, so the same instance can be shared between
+ * them (see {@link #of(ParameterValue, ParameterDisplay)}).
+ */
+public final class ParameterDisplay implements Display {
+
+    private final MissionDatabase missionDatabase;
+    private final List<AlarmRange> alarmRanges;
+
+    private final String units;
+    private final double lowerWarningLimit;
+    private final double upperWarningLimit;
+    private final double lowerAlarmLimit;
+    private final double upperAlarmLimit;
+
+    private ParameterDisplay(ParameterValue pval, MissionDatabase missionDatabase) {
+        this.missionDatabase = missionDatabase;
+        alarmRanges = pval.getAlarmRangeList();
+
+        String unit = missionDatabase != null ? missionDatabase.getCombinedUnit(pval.getId()) : null;
+        units = (unit == null) ? "" : unit;
+
+        double lowerWarning = Double.NaN;
+        double upperWarning = Double.NaN;
+        double lowerAlarm = Double.NaN;
+        double upperAlarm = Double.NaN;
+
+        // Assumes ordered ranges. The first range of a level that defines a bound wins.
+        for (AlarmRange range : alarmRanges) {
+            if (range.getLevel() == AlarmLevelType.WATCH
+                    || range.getLevel() == AlarmLevelType.WARNING
+                    || range.getLevel() == AlarmLevelType.DISTRESS) {
+                if (Double.isNaN(lowerWarning)) {
+                    lowerWarning = getMin(range);
+                }
+                if (Double.isNaN(upperWarning)) {
+                    upperWarning = getMax(range);
+                }
+            } else if (range.getLevel() == AlarmLevelType.CRITICAL
+                    || range.getLevel() == AlarmLevelType.SEVERE) {
+                if (Double.isNaN(lowerAlarm)) {
+                    lowerAlarm = getMin(range);
+                }
+                if (Double.isNaN(upperAlarm)) {
+                    upperAlarm = getMax(range);
+                }
+            }
+        }
+        lowerWarningLimit = lowerWarning;
+        upperWarningLimit = upperWarning;
+        lowerAlarmLimit = lowerAlarm;
+        upperAlarmLimit = upperAlarm;
+    }
+
+    /**
+     * Returns the display information for a received value.
+     *
+     * @param previous
+     *            display information of an earlier value of the same parameter. This is returned as is, if it still
+     *            applies. May be null.
+     */
+    public static ParameterDisplay of(ParameterValue pval, ParameterDisplay previous) {
+        MissionDatabase missionDatabase = YamcsPlugin.getMissionDatabase();
+        if (previous != null && previous.missionDatabase == missionDatabase
+                && previous.alarmRanges.equals(pval.getAlarmRangeList())) {
+            return previous;
+        }
+        return new ParameterDisplay(pval, missionDatabase);
+    }
+
+    private static double getMin(AlarmRange range) {
+        if (range.hasMinInclusive()) {
+            return range.getMinInclusive();
+        } else if (range.hasMinExclusive()) {
+            return range.getMinExclusive();
+        }
+        return Double.NaN;
+    }
+
+    private static double getMax(AlarmRange range) {
+        if (range.hasMaxInclusive()) {
+            return range.getMaxInclusive();
+        } else if (range.hasMaxExclusive()) {
+            return range.getMaxExclusive();
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public Double getLowerWarningLimit() {
+        return lowerWarningLimit;
+    }
+
+    /**
+     * Highest value before the warning region
+     */
+    @Override
+    public Double getUpperWarningLimit() {
+        return upperWarningLimit;
+    }
+
+    @Override
+    public Double getLowerAlarmLimit() {
+        return lowerAlarmLimit;
+    }
+
+    /**
+     * Highest value before the alarm region
+     */
+    @Override
+    public Double getUpperAlarmLimit() {
+        return upperAlarmLimit;
+    }
+
+    @Override
+    public Double getLowerDisplayLimit() {
+        return lowerAlarmLimit;
+    }
+
+    @Override
+    public Double getUpperDisplayLimit() {
+        return upperAlarmLimit;
+    }
+
+    @Override
+    public Double getLowerCtrlLimit() {
+        return Double.NaN;
+    }
+
+    @Override
+    public Double getUpperCtrlLimit() {
+        return Double.NaN;
+    }
+
+    @Override
+    public String getUnits() {
+        return units;
+    }
+
+    @Override
+    public NumberFormat getFormat() {
+        return NumberFormats.toStringFormat();
+    }
+}
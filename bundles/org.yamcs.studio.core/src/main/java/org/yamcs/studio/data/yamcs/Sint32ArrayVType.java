@@ -3,6 +3,7 @@ package org.yamcs.studio.data.yamcs;
 import java.util.List;
 
 import org.yamcs.protobuf.Pvalue.ParameterValue;
+import org.yamcs.protobuf.Yamcs.Value;
 import org.yamcs.studio.data.vtype.ArrayDimensionDisplay;
 import org.yamcs.studio.data.vtype.ArrayInt;
 import org.yamcs.studio.data.vtype.ListInt;
@@ -17,16 +18,17 @@ public class Sint32ArrayVType extends YamcsVType implements VIntArray {
 
     private ArrayInt data;
 
-    public Sint32ArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public Sint32ArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
         dimensionDisplay = ValueUtil.defaultArrayDisplay(sizes);
 
         int[] intValues = new int[size];
         for (int i = 0; i < intValues.length; i++) {
-            intValues[i] = value.getArrayValue(i).getSint32Value();
+            intValues[i] = arrayValue.getArrayValue(i).getSint32Value();
         }
         data = new ArrayInt(intValues);
     }
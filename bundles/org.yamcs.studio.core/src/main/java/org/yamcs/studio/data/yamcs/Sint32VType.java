@@ -5,17 +5,20 @@ import org.yamcs.studio.data.vtype.VInt;
 
 public class Sint32VType extends YamcsVType implements VInt {
 
-    public Sint32VType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final int intValue;
+
+    public Sint32VType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        intValue = selectValue(pval, raw).getSint32Value();
     }
 
     @Override
     public Integer getValue() {
-        return value.getSint32Value();
+        return intValue;
     }
 
     @Override
     public String toString() {
-        return String.valueOf(value.getSint32Value());
+        return String.valueOf(intValue);
     }
 }
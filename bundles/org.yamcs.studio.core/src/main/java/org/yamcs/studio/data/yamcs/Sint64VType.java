@@ -5,17 +5,20 @@ import org.yamcs.studio.data.vtype.VLong;
 
 public class Sint64VType extends YamcsVType implements VLong {
 
-    public Sint64VType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final long longValue;
+
+    public Sint64VType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        longValue = selectValue(pval, raw).getSint64Value();
     }
 
     @Override
     public Long getValue() {
-        return value.getSint64Value();
+        return longValue;
     }
 
     @Override
     public String toString() {
-        return String.valueOf(value.getSint64Value());
+        return String.valueOf(longValue);
     }
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.yamcs.protobuf.Pvalue.ParameterValue;
+import org.yamcs.protobuf.Yamcs.Value;
 import org.yamcs.studio.data.vtype.ArrayInt;
 import org.yamcs.studio.data.vtype.ListInt;
 import org.yamcs.studio.data.vtype.VStringArray;
@@ -15,15 +16,16 @@ public class StringArrayVType extends YamcsVType implements VStringArray {
 
     private List<String> data;
 
-    public StringArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public StringArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
 
-        data = new ArrayList<>();
+        data = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            data.add(value.getArrayValue(i).getStringValue());
+            data.add(arrayValue.getArrayValue(i).getStringValue());
         }
     }
 
@@ -5,19 +5,22 @@ import org.yamcs.studio.data.vtype.VString;
 
 public class StringVType extends YamcsVType implements VString {
 
-    public StringVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final String stringValue;
+
+    public StringVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        stringValue = selectValue(pval, raw).getStringValue();
     }
 
     @Override
     public String getValue() {
-        return value.getStringValue();
+        return stringValue;
     }
 
     @Override
     public String toString() {
         // Use String.valueOf, because it formats a nice "null" string
         // in case it is null
-        return String.valueOf(value.getStringValue());
+        return String.valueOf(stringValue);
     }
 }
@@ -9,20 +9,20 @@ import org.yamcs.studio.data.vtype.VTimestamp;
 
 public class TimestampVType extends YamcsVType implements VTimestamp {
 
-    public TimestampVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final Instant instant;
+
+    public TimestampVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        instant = Instant.parse(selectValue(pval, raw).getStringValue());
     }
 
     @Override
     public Date getValue() {
-        String stringValue = value.getStringValue();
-        return Date.from(Instant.parse(stringValue));
+        return Date.from(instant);
     }
 
     @Override
     public String toString() {
-        String stringValue = value.getStringValue();
-        Instant instant = Instant.parse(stringValue);
         return YamcsPlugin.getDefault().formatInstant(instant);
     }
 }
@@ -5,17 +5,20 @@ import org.yamcs.studio.data.vtype.VLong;
 
 public class Uint32VType extends YamcsVType implements VLong {
 
-    public Uint32VType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final long longValue;
+
+    public Uint32VType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        longValue = selectValue(pval, raw).getUint32Value() & 0xFFFFFFFFL;
     }
 
     @Override
     public Long getValue() {
-        return value.getUint32Value() & 0xFFFFFFFFL;
+        return longValue;
     }
 
     @Override
     public String toString() {
-        return Long.toString(value.getUint32Value() & 0xFFFFFFFFL);
+        return Long.toString(longValue);
     }
 }
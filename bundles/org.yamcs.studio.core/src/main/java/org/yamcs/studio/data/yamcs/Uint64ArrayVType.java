@@ -3,6 +3,7 @@ package org.yamcs.studio.data.yamcs;
 import java.util.List;
 
 import org.yamcs.protobuf.Pvalue.ParameterValue;
+import org.yamcs.protobuf.Yamcs.Value;
 import org.yamcs.studio.data.vtype.ArrayDimensionDisplay;
 import org.yamcs.studio.data.vtype.ArrayInt;
 import org.yamcs.studio.data.vtype.ArrayLong;
@@ -19,16 +20,17 @@ public class Uint64ArrayVType extends YamcsVType implements VLongArray {
 
     private ListLong data;
 
-    public Uint64ArrayVType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    public Uint64ArrayVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
 
-        int size = value.getArrayValueCount();
+        Value arrayValue = selectValue(pval, raw);
+        int size = arrayValue.getArrayValueCount();
         sizes = new ArrayInt(size);
         dimensionDisplay = ValueUtil.defaultArrayDisplay(sizes);
 
         long[] longValues = new long[size];
         for (int i = 0; i < longValues.length; i++) {
-            longValues[i] = value.getArrayValue(i).getUint64Value();
+            longValues[i] = arrayValue.getArrayValue(i).getUint64Value();
         }
         data = new ArrayLong(longValues);
     }
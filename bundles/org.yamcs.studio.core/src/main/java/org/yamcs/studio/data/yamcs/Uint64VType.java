@@ -13,21 +13,24 @@ public class Uint64VType extends YamcsVType implements VLong {
 
     static final BigInteger B64 = BigInteger.ZERO.setBit(64);
 
-    public Uint64VType(ParameterValue pval, boolean raw) {
-        super(pval, raw);
+    private final long longValue;
+
+    public Uint64VType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        super(pval, display);
+        longValue = selectValue(pval, raw).getUint64Value();
     }
 
     @Override
     public Long getValue() {
-        return value.getUint64Value();
+        return longValue;
     }
 
     @Override
     public String toString() {
-        if (value.getUint64Value() >= 0) {
-            return Long.toString(value.getUint64Value());
+        if (longValue >= 0) {
+            return Long.toString(longValue);
         } else {
-            return BigInteger.valueOf(value.getUint64Value()).add(B64).toString();
+            return BigInteger.valueOf(longValue).add(B64).toString();
         }
     }
 }
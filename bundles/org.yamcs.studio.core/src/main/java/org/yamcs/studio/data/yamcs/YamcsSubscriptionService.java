@@ -2,16 +2,15 @@ package org.yamcs.studio.data.yamcs;
 
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.yamcs.client.ParameterSubscription;
 import org.yamcs.protobuf.Pvalue.ParameterValue;
@@ -32,10 +31,24 @@ public class YamcsSubscriptionService implements YamcsAware, ParameterSubscripti
 
     private static final Logger log = Logger.getLogger(YamcsSubscriptionService.class.getName());
 
+    // Only contains ids with at least one PV. Accessed from the executor only.
     private Map<NamedObjectId, Set<IPV>> pvsById = new LinkedHashMap<>();
 
+    // Changes since the last subscription update. Accessed from the executor only.
+    private Set<NamedObjectId> pendingAdds = new LinkedHashSet<>();
+    private Set<NamedObjectId> pendingRemoves = new LinkedHashSet<>();
+
+    // Ids that Yamcs reported as invalid for the current subscription. Accessed from the executor only.
+    private Set<NamedObjectId> invalidIds = new HashSet<>();
+
+    // Decoded values, shared by all PVs on the same parameter. Written from the executor only.
+    private Map<NamedObjectId, VType> engValues = new ConcurrentHashMap<>();
+    private Map<NamedObjectId, VType> rawValues = new ConcurrentHashMap<>();
+
+    // Display information of the last received value, reused while alarm ranges remain the same.
+    private Map<NamedObjectId, ParameterDisplay> displays = new ConcurrentHashMap<>();
+
     private ParameterSubscription subscription;
-    private AtomicBoolean subscriptionDirty = new AtomicBoolean(false);
     private ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
 
     private Set<ParameterValueListener> parameterValueListeners = new HashSet<>();
@@ -44,44 +57,67 @@ public class YamcsSubscriptionService implements YamcsAware, ParameterSubscripti
 
         // Periodically check if the subscription needs a refresh
         // (PVs send individual events, so this bundles them)
-        executor.scheduleWithFixedDelay(() -> {
-            if (subscriptionDirty.getAndSet(false) && subscription != null) {
-                Set<NamedObjectId> ids = getRequestedIdentifiers();
-                log.fine(String.format("Modifying subscription to %s", ids));
-                subscription.sendMessage(SubscribeParametersRequest.newBuilder()
-                        .setAction(Action.REPLACE)
-                        .setSendFromCache(true)
-                        .setAbortOnInvalid(false)
-                        .setUpdateOnExpiration(true)
-                        .addAllId(ids)
-                        .build());
-            }
-        }, 500, 500, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::flushPendingChanges, 500, 500, TimeUnit.MILLISECONDS);
 
         YamcsPlugin.addListener(this);
     }
 
     private Set<NamedObjectId> getRequestedIdentifiers() {
-        return pvsById.entrySet().stream()
-                .filter(entry -> !entry.getValue().isEmpty())
-                .map(Entry::getKey)
-                .collect(Collectors.toSet());
+        return new LinkedHashSet<>(pvsById.keySet());
+    }
+
+    /**
+     * Sends only the ids that were added or removed since the last update, rather than the full set.
+     */
+    private void flushPendingChanges() {
+        if (subscription == null) {
+            // The full set is sent when a new subscription is made
+            pendingAdds.clear();
+            pendingRemoves.clear();
+            return;
+        }
+        if (!pendingRemoves.isEmpty()) {
+            log.fine(String.format("Removing %s from subscription", pendingRemoves));
+            subscription.sendMessage(SubscribeParametersRequest.newBuilder()
+                    .setAction(Action.REMOVE)
+                    .addAllId(pendingRemoves)
+                    .build());
+            pendingRemoves.clear();
+        }
+        if (!pendingAdds.isEmpty()) {
+            log.fine(String.format("Adding %s to subscription", pendingAdds));
+            subscription.sendMessage(SubscribeParametersRequest.newBuilder()
+                    .setAction(Action.ADD)
+                    .setSendFromCache(true)
+                    .setAbortOnInvalid(false)
+                    .setUpdateOnExpiration(true)
+                    .addAllId(pendingAdds)
+                    .build());
+            pendingAdds.clear();
+        }
     }
 
     public boolean isSubscriptionAvailable() {
         return subscription != null;
     }
 
-    public VType getValue(String pvName) {
-        NamedObjectId id = identityOf(pvName);
-        if (subscription != null) {
-            ParameterValue pval = subscription.get(id);
+    public VType getValue(IPV pv) {
+        ParameterSubscription currentSubscription = subscription;
+        if (currentSubscription == null) {
+            return null;
+        }
+        NamedObjectId id = pv.getYamcsId();
+        Map<NamedObjectId, VType> cache = pv.isRaw() ? rawValues : engValues;
+        VType value = cache.get(id);
+        if (value == null) {
+            // Not decoded yet (for example: the first raw PV on a parameter that
+            // was only used for engineering values so far).
+            ParameterValue pval = currentSubscription.get(id);
             if (pval != null) {
-                boolean raw = pvName.startsWith("raw://");
-                return YamcsVType.fromYamcs(pval, raw);
+                value = YamcsVType.fromYamcs(pval, pv.isRaw(), ParameterDisplay.of(pval, displays.get(id)));
             }
         }
-        return null;
+        return value;
     }
 
     @Override
@@ -90,6 +126,8 @@ public class YamcsSubscriptionService implements YamcsAware, ParameterSubscripti
             if (subscription != null) {
                 subscription.cancel(true);
                 subscription = null;
+                clearValues();
+                invalidIds.clear();
                 pvsById.forEach((id, pvs) -> {
                     pvs.forEach(pv -> {
                         pv.notifyConnectionChange();
@@ -113,6 +151,8 @@ public class YamcsSubscriptionService implements YamcsAware, ParameterSubscripti
                 });
 
                 // Ready to receive some data
+                pendingAdds.clear();
+                pendingRemoves.clear();
                 Set<NamedObjectId> ids = getRequestedIdentifiers();
                 log.fine(String.format("Subscribing to %s [%s/%s]", ids, instance, processor));
                 subscription.sendMessage(SubscribeParametersRequest.newBuilder()
@@ -128,33 +168,54 @@ public class YamcsSubscriptionService implements YamcsAware, ParameterSubscripti
     }
 
     /**
-     * Async adds a Yamcs PV for receiving updates.
+     * Async adds a Yamcs PV for receiving updates. The parameter is only added to the subscription if this is the
+     * first PV for it.
      */
     public void register(IPV pv) {
-        NamedObjectId id = identityOf(pv.getName());
+        NamedObjectId id = pv.getYamcsId();
         executor.execute(() -> {
-            Set<IPV> pvs = pvsById.computeIfAbsent(id, x -> new HashSet<>());
+            Set<IPV> pvs = pvsById.get(id);
+            if (pvs == null) {
+                pvs = new HashSet<>();
+                pvsById.put(id, pvs);
+                if (!pendingRemoves.remove(id)) {
+                    pendingAdds.add(id);
+                }
+            }
             pvs.add(pv);
-            subscriptionDirty.set(true);
+            if (invalidIds.contains(id)) {
+                pv.setInvalid();
+            }
         });
     }
 
     /**
-     * Async removes a Yamcs PV from receiving updates.
+     * Async removes a Yamcs PV from receiving updates. The parameter is only removed from the subscription once its
+     * last PV is gone.
      */
     public void unregister(IPV pv) {
-        NamedObjectId id = identityOf(pv.getName());
+        NamedObjectId id = pv.getYamcsId();
         executor.execute(() -> {
             Set<IPV> pvs = pvsById.get(id);
-            if (pvs != null) {
-                boolean removed = pvs.remove(pv);
-                if (removed) {
-                    subscriptionDirty.set(true);
+            if (pvs != null && pvs.remove(pv) && pvs.isEmpty()) {
+                pvsById.remove(id);
+                engValues.remove(id);
+                rawValues.remove(id);
+                displays.remove(id);
+                boolean invalid = invalidIds.remove(id);
+                if (!pendingAdds.remove(id) && !invalid) {
+                    pendingRemoves.add(id);
                 }
             }
         });
     }
 
+    private void clearValues() {
+        engValues.clear();
+        rawValues.clear();
+        displays.clear();
+    }
+
     @Override
     public void dispose() {
         YamcsPlugin.removeListener(this);
@@ -165,8 +226,10 @@ public class YamcsSubscriptionService implements YamcsAware, ParameterSubscripti
     public void onData(List<ParameterValue> values) {
         executor.execute(() -> {
             for (ParameterValue pval : values) {
-                Set<IPV> pvs = pvsById.get(pval.getId());
-                if (pvs != null) {
+                NamedObjectId id = pval.getId();
+                Set<IPV> pvs = pvsById.get(id);
+                if (pvs != null && !pvs.isEmpty()) {
+                    cacheValue(id, pval, pvs);
                     pvs.forEach(pv -> pv.notifyValueChange());
                 }
             }
@@ -174,6 +237,42 @@ public class YamcsSubscriptionService implements YamcsAware, ParameterSubscripti
         });
     }
 
+    /**
+     * Decodes a received value once for all PVs on the same parameter. Only the variants (eng and/or raw) that are
+     * actually in use are converted.
+     */
+    private void cacheValue(NamedObjectId id, ParameterValue pval, Set<IPV> pvs) {
+        boolean needEng = false;
+        boolean needRaw = false;
+        for (IPV pv : pvs) {
+            if (pv.isRaw()) {
+                needRaw = true;
+            } else {
+                needEng = true;
+            }
+        }
+        ParameterDisplay display = ParameterDisplay.of(pval, displays.get(id));
+        displays.put(id, display);
+        if (needEng) {
+            updateCache(engValues, id, YamcsVType.fromYamcs(pval, false, display));
+        } else {
+            engValues.remove(id);
+        }
+        if (needRaw) {
+            updateCache(rawValues, id, YamcsVType.fromYamcs(pval, true, display));
+        } else {
+            rawValues.remove(id);
+        }
+    }
+
+    private static void updateCache(Map<NamedObjectId, VType> cache, NamedObjectId id, VType value) {
+        if (value != null) {
+            cache.put(id, value);
+        } else {
+            cache.remove(id);
+        }
+    }
+
     public void addParameterValueListener(ParameterValueListener listener) {
         parameterValueListeners.add(listener);
     }
@@ -181,10 +280,11 @@ public class YamcsSubscriptionService implements YamcsAware, ParameterSubscripti
     @Override
     public void onInvalidIdentification(NamedObjectId id) {
         executor.execute(() -> {
-            // We keep the id in pvsById, we want to again receive the invalid
-            // identification when the subscription is updated.
+            // We keep the id in pvsById, so that PVs registering later on
+            // for the same id are immediately marked invalid as well.
             Set<IPV> pvs = pvsById.get(id);
             if (pvs != null) {
+                invalidIds.add(id);
                 pvs.forEach(IPV::setInvalid);
             }
         });
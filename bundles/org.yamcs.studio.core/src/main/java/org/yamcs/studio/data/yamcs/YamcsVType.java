@@ -4,41 +4,69 @@ import java.text.NumberFormat;
 import java.time.Instant;
 import java.util.List;
 
-import org.yamcs.protobuf.Mdb.AlarmLevelType;
-import org.yamcs.protobuf.Mdb.AlarmRange;
 import org.yamcs.protobuf.Pvalue.AcquisitionStatus;
 import org.yamcs.protobuf.Pvalue.ParameterValue;
 import org.yamcs.protobuf.Yamcs.NamedObjectId;
 import org.yamcs.protobuf.Yamcs.Value;
-import org.yamcs.studio.core.MissionDatabase;
-import org.yamcs.studio.core.YamcsPlugin;
 import org.yamcs.studio.data.vtype.Alarm;
 import org.yamcs.studio.data.vtype.AlarmSeverity;
 import org.yamcs.studio.data.vtype.Display;
-import org.yamcs.studio.data.vtype.NumberFormats;
 import org.yamcs.studio.data.vtype.Time;
 import org.yamcs.studio.data.vtype.VType;
 
+/**
+ * Base class of VTypes that represent a Yamcs parameter value.
+ * <p>
+ * Alarm, time and display information are decoded once on creation. Scalar types also store their value as a field,
+ * and do not keep a reference to the received protobuf message.
+ */
 public class YamcsVType implements VType, Alarm, Time, Display {
 
-    private ParameterValue pval;
-    protected Value value;
+    private final NamedObjectId id;
+    private final AlarmSeverity alarmSeverity;
+    private final Instant timestamp;
+    private final ParameterDisplay display;
 
-    public YamcsVType(ParameterValue pval, boolean raw) {
-        this.pval = pval;
-        value = raw ? pval.getRawValue() : pval.getEngValue();
+    // Only set for types that decode their value on demand
+    protected final Value value;
+
+    /**
+     * Creates a VType that keeps the received value message.
+     */
+    public YamcsVType(ParameterValue pval, boolean raw, ParameterDisplay display) {
+        this(pval, display, selectValue(pval, raw));
     }
 
-    public NamedObjectId getId() {
-        return pval.getId();
+    /**
+     * Creates a VType that keeps no reference to the received value message. Subclasses must decode their value in
+     * their constructor, using {@link #selectValue(ParameterValue, boolean)}.
+     */
+    protected YamcsVType(ParameterValue pval, ParameterDisplay display) {
+        this(pval, display, null);
     }
 
-    @Override
-    public AlarmSeverity getAlarmSeverity() {
-        if (pval == null) {
-            return AlarmSeverity.NONE;
+    private YamcsVType(ParameterValue pval, ParameterDisplay display, Value value) {
+        id = pval.getId();
+        alarmSeverity = toAlarmSeverity(pval);
+        if (pval.hasGenerationTime()) {
+            timestamp = Instant.ofEpochSecond(pval.getGenerationTime().getSeconds(),
+                    pval.getGenerationTime().getNanos());
+        } else {
+            timestamp = null;
         }
+        this.display = display;
+        this.value = value;
+    }
 
+    protected static Value selectValue(ParameterValue pval, boolean raw) {
+        return raw ? pval.getRawValue() : pval.getEngValue();
+    }
+
+    public NamedObjectId getId() {
+        return id;
+    }
+
+    private static AlarmSeverity toAlarmSeverity(ParameterValue pval) {
         if (pval.getAcquisitionStatus() == AcquisitionStatus.EXPIRED
                 || pval.getAcquisitionStatus() == AcquisitionStatus.NOT_RECEIVED
                 || pval.getAcquisitionStatus() == AcquisitionStatus.INVALID) {
@@ -66,6 +94,11 @@ public class YamcsVType implements VType, Alarm, Time, Display {
         }
     }
 
+    @Override
+    public AlarmSeverity getAlarmSeverity() {
+        return alarmSeverity;
+    }
+
     @Override
     public String getAlarmName() {
         return "";
@@ -73,11 +106,7 @@ public class YamcsVType implements VType, Alarm, Time, Display {
 
     @Override
     public Instant getTimestamp() {
-        if (pval != null && pval.hasGenerationTime()) {
-            return Instant.ofEpochSecond(pval.getGenerationTime().getSeconds(), pval.getGenerationTime().getNanos());
-        } else {
-            return null;
-        }
+        return timestamp;
     }
 
     @Override
@@ -92,21 +121,7 @@ public class YamcsVType implements VType, Alarm, Time, Display {
 
     @Override
     public Double getLowerWarningLimit() {
-        if (pval != null) {
-            // Assumes ordered ranges
-            for (AlarmRange range : pval.getAlarmRangeList()) {
-                if (range.getLevel() == AlarmLevelType.WATCH
-                        || range.getLevel() == AlarmLevelType.WARNING
-                        || range.getLevel() == AlarmLevelType.DISTRESS) {
-                    if (range.hasMinInclusive()) {
-                        return range.getMinInclusive();
-                    } else if (range.hasMinExclusive()) {
-                        return range.getMinExclusive();
-                    }
-                }
-            }
-        }
-        return Double.NaN;
+        return display.getLowerWarningLimit();
     }
 
     /**
@@ -114,39 +129,12 @@ public class YamcsVType implements VType, Alarm, Time, Display {
      */
     @Override
     public Double getUpperWarningLimit() {
-        if (pval != null) {
-            // Assumes ordered ranges
-            for (AlarmRange range : pval.getAlarmRangeList()) {
-                if (range.getLevel() == AlarmLevelType.WATCH
-                        || range.getLevel() == AlarmLevelType.WARNING
-                        || range.getLevel() == AlarmLevelType.DISTRESS) {
-                    if (range.hasMaxInclusive()) {
-                        return range.getMaxInclusive();
-                    } else if (range.hasMaxExclusive()) {
-                        return range.getMaxExclusive();
-                    }
-                }
-            }
-        }
-        return Double.NaN;
+        return display.getUpperWarningLimit();
     }
 
     @Override
     public Double getLowerAlarmLimit() {
-        if (pval != null) {
-            // Assumes ordered ranges
-            for (AlarmRange range : pval.getAlarmRangeList()) {
-                if (range.getLevel() == AlarmLevelType.CRITICAL
-                        || range.getLevel() == AlarmLevelType.SEVERE) {
-                    if (range.hasMinInclusive()) {
-                        return range.getMinInclusive();
-                    } else if (range.hasMinExclusive()) {
-                        return range.getMinExclusive();
-                    }
-                }
-            }
-        }
-        return Double.NaN;
+        return display.getLowerAlarmLimit();
     }
 
     /**
@@ -154,73 +142,50 @@ public class YamcsVType implements VType, Alarm, Time, Display {
      */
     @Override
     public Double getUpperAlarmLimit() {
-        if (pval != null) {
-            // Assumes ordered ranges
-            for (AlarmRange range : pval.getAlarmRangeList()) {
-                if (range.getLevel() == AlarmLevelType.CRITICAL
-                        || range.getLevel() == AlarmLevelType.SEVERE) {
-                    if (range.hasMaxInclusive()) {
-                        return range.getMaxInclusive();
-                    } else if (range.hasMaxExclusive()) {
-                        return range.getMaxExclusive();
-                    }
-                }
-            }
-        }
-        return Double.NaN;
+        return display.getUpperAlarmLimit();
     }
 
     @Override
     public Double getLowerDisplayLimit() {
-        Double loLimit = getLowerAlarmLimit();
-        if (loLimit == Double.NaN) {
-            loLimit = getLowerWarningLimit();
-        }
-
-        return loLimit;
+        return display.getLowerDisplayLimit();
     }
 
     @Override
     public Double getUpperDisplayLimit() {
-        Double hiLimit = getUpperAlarmLimit();
-        if (hiLimit == Double.NaN) {
-            hiLimit = getUpperWarningLimit();
-        }
-
-        return hiLimit;
+        return display.getUpperDisplayLimit();
     }
 
     @Override
     public Double getLowerCtrlLimit() {
-        return Double.NaN;
+        return display.getLowerCtrlLimit();
     }
 
     @Override
     public Double getUpperCtrlLimit() {
-        return Double.NaN;
+        return display.getUpperCtrlLimit();
     }
 
     @Override
     public String getUnits() {
-        if (pval != null) {
-            MissionDatabase mdb = YamcsPlugin.getMissionDatabase();
-            if (mdb != null) {
-                String unit = mdb.getCombinedUnit(pval.getId());
-                return (unit == null) ? "" : unit;
-            }
-        }
-        return "";
+        return display.getUnits();
     }
 
     @Override
     public NumberFormat getFormat() {
-        return NumberFormats.toStringFormat();
+        return display.getFormat();
     }
 
     /**
      * Converts a yamcs ParameterValue to a VType.
      */
     public static YamcsVType fromYamcs(ParameterValue pval, boolean raw) {
+        return fromYamcs(pval, raw, ParameterDisplay.of(pval, null));
+    }
+
+    /**
+     * Converts a yamcs ParameterValue to a VType, using the given display information.
+     */
+    public static YamcsVType fromYamcs(ParameterValue pval, boolean raw, ParameterDisplay display) {
         Value value;
         if (raw) {
             if (!pval.hasRawValue()) {
@@ -236,29 +201,29 @@ public class YamcsVType implements VType, Alarm, Time, Display {
 
         switch (value.getType()) {
         case UINT32:
-            return new Uint32VType(pval, raw);
+            return new Uint32VType(pval, raw, display);
         case SINT32:
-            return new Sint32VType(pval, raw);
+            return new Sint32VType(pval, raw, display);
         case UINT64:
-            return new Uint64VType(pval, raw);
+            return new Uint64VType(pval, raw, display);
         case SINT64:
-            return new Sint64VType(pval, raw);
+            return new Sint64VType(pval, raw, display);
         case FLOAT:
-            return new FloatVType(pval, raw);
+            return new FloatVType(pval, raw, display);
         case DOUBLE:
-            return new DoubleVType(pval, raw);
+            return new DoubleVType(pval, raw, display);
         case BOOLEAN:
-            return new BooleanVType(pval, raw);
+            return new BooleanVType(pval, raw, display);
         case STRING:
-            return new StringVType(pval, raw);
+            return new StringVType(pval, raw, display);
         case BINARY:
-            return new BinaryVType(pval, raw);
+            return new BinaryVType(pval, raw, display);
         case TIMESTAMP:
-            return new TimestampVType(pval, raw);
+            return new TimestampVType(pval, raw, display);
         case ENUMERATED:
-            return new EnumeratedVType(pval, raw);
+            return new EnumeratedVType(pval, raw, display);
         case AGGREGATE:
-            return new AggregateVType(pval, raw);
+            return new AggregateVType(pval, raw, display);
         case ARRAY:
             List<Value> arrayValues = value.getArrayValueList();
             if (arrayValues.isEmpty()) {
@@ -266,27 +231,27 @@ public class YamcsVType implements VType, Alarm, Time, Display {
             } else {
                 switch (arrayValues.get(0).getType()) {
                 case UINT32:
-                    return new Uint32ArrayVType(pval, raw);
+                    return new Uint32ArrayVType(pval, raw, display);
                 case SINT32:
-                    return new Sint32ArrayVType(pval, raw);
+                    return new Sint32ArrayVType(pval, raw, display);
                 case UINT64:
-                    return new Uint64ArrayVType(pval, raw);
+                    return new Uint64ArrayVType(pval, raw, display);
                 case SINT64:
-                    return new Sint64ArrayVType(pval, raw);
+                    return new Sint64ArrayVType(pval, raw, display);
                 case FLOAT:
-                    return new FloatArrayVType(pval, raw);
+                    return new FloatArrayVType(pval, raw, display);
                 case DOUBLE:
-                    return new DoubleArrayVType(pval, raw);
+                    return new DoubleArrayVType(pval, raw, display);
                 case BOOLEAN:
-                    return new BooleanArrayVType(pval, raw);
+                    return new BooleanArrayVType(pval, raw, display);
                 case STRING:
-                    return new StringArrayVType(pval, raw);
+                    return new StringArrayVType(pval, raw, display);
                 case ENUMERATED:
-                    return new EnumeratedArrayVType(pval, raw);
+                    return new EnumeratedArrayVType(pval, raw, display);
                 case AGGREGATE:
-                    return new AggregateArrayVType(pval, raw);
+                    return new AggregateArrayVType(pval, raw, display);
                 case ARRAY:
-                    return new ArrayArrayVType(pval, raw);
+                    return new ArrayArrayVType(pval, raw, display);
                 default:
                     throw new IllegalStateException(
                             "Unexpected type for parameter array value. Got: " + arrayValues.get(0).getType());
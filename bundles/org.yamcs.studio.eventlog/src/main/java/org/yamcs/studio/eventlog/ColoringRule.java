@@ -1,73 +1,174 @@
 package org.yamcs.studio.eventlog;
 
-import java.util.Scanner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.swt.graphics.RGB;
 import org.yamcs.protobuf.Yamcs.Event;
+import org.yamcs.protobuf.Yamcs.Event.EventSeverity;
 
+/**
+ * Assigns colors to events that match an expression such as <code>severity == WARNING || type != INFO</code>.
+ * <p>
+ * The expression is compiled once, on construction, into a tree of conditions. <code>&amp;&amp;</code> binds stronger
+ * than <code>||</code>.
+ */
 public class ColoringRule {
 
-    private Pattern CONDITION = Pattern.compile("\\s*(severity|type|source)\\s*(==|!=)\\s*(\\w+)\\s*");
-    private Pattern LOGICAL_OP = Pattern.compile("(&&)|(\\|\\|)");
+    private static final Pattern CONDITION = Pattern.compile("\\s*(severity|type|source)\\s*(==|!=)\\s*(\\w+)\\s*");
+    private static final Pattern LOGICAL_OP = Pattern.compile("(&&)|(\\|\\|)");
 
     public final String expression;
     public final RGB bg;
     public final RGB fg;
 
+    private final Condition condition;
+
+    /**
+     * @throws IllegalStateException
+     *             if the expression is invalid
+     */
     public ColoringRule(String expression, RGB bg, RGB fg) {
         this.expression = expression;
         this.bg = bg;
         this.fg = fg;
+        condition = compile(expression);
     }
 
     public boolean matches(Event event) {
-        String trimmed = expression.trim();
-        if (trimmed.isEmpty()) {
-            return true;
+        return condition.matches(event);
+    }
+
+    private static Condition compile(String expression) {
+        if (expression.trim().isEmpty()) {
+            return event -> true;
+        }
+
+        List<Condition> alternatives = new ArrayList<>();
+        List<Condition> conjunction = new ArrayList<>();
+
+        Matcher matcher = CONDITION.matcher(expression);
+        Matcher opMatcher = LOGICAL_OP.matcher(expression);
+        int pos = 0;
+        while (true) {
+            matcher.region(pos, expression.length());
+            if (!matcher.lookingAt()) {
+                throw new IllegalStateException("Invalid condition");
+            }
+            conjunction.add(compileCondition(matcher.group(1), matcher.group(2), matcher.group(3)));
+            pos = matcher.end();
+            if (pos == expression.length()) {
+                break;
+            }
+
+            opMatcher.region(pos, expression.length());
+            if (!opMatcher.lookingAt()) {
+                throw new IllegalStateException("Invalid condition");
+            }
+            if (opMatcher.group(2) != null) { // ||
+                alternatives.add(AndCondition.of(conjunction));
+                conjunction.clear();
+            }
+            pos = opMatcher.end();
+        }
+        alternatives.add(AndCondition.of(conjunction));
+
+        return OrCondition.of(alternatives);
+    }
+
+    private static Condition compileCondition(String property, String op, String value) {
+        Condition eq;
+        switch (property) {
+        case "severity":
+            EventSeverity severity = toSeverity(value);
+            if (severity == null) {
+                eq = event -> false;
+            } else {
+                eq = event -> event.hasSeverity() && event.getSeverity() == severity;
+            }
+            break;
+        case "type":
+            eq = event -> event.hasType() && event.getType().equals(value);
+            break;
+        case "source":
+            eq = event -> event.hasSource() && event.getSource().equals(value);
+            break;
+        default:
+            throw new UnsupportedOperationException();
+        }
+
+        if ("==".equals(op)) {
+            return eq;
+        } else {
+            return event -> !eq.matches(event);
+        }
+    }
+
+    private static EventSeverity toSeverity(String value) {
+        for (EventSeverity severity : EventSeverity.values()) {
+            if (severity.toString().equals(value)) {
+                return severity;
+            }
         }
-        boolean matches = false;
-        try (Scanner scanner = new Scanner(expression)) {
-            String pendingLogicalOperation = null;
-            while (scanner.hasNext()) {
-                scanner.useDelimiter(LOGICAL_OP);
-                if (scanner.findInLine(CONDITION) != null) {
-                    String property = scanner.match().group(1);
-                    String op = scanner.match().group(2);
-                    String value = scanner.match().group(3);
-                    boolean eq;
-                    switch (property) {
-                    case "severity":
-                        eq = event.hasSeverity() && event.getSeverity().toString().equals(value);
-                        break;
-                    case "type":
-                        eq = event.hasType() && event.getType().equals(value);
-                        break;
-                    case "source":
-                        eq = event.hasSource() && event.getSource().equals(value);
-                        break;
-                    default:
-                        throw new UnsupportedOperationException();
-                    }
-
-                    boolean conditionTrue = ("==".equals(op) && eq) || ("!=".equals(op) && !eq);
-                    if (pendingLogicalOperation == null) {
-                        matches = conditionTrue;
-                    } else if ("&&".equals(pendingLogicalOperation)) {
-                        matches &= conditionTrue;
-                    } else if ("||".equals(pendingLogicalOperation)) {
-                        matches |= conditionTrue;
-                    } else {
-                        throw new UnsupportedOperationException();
-                    }
-                } else {
-                    // System.out.println(scanner.next());
-                    throw new IllegalStateException("Invalid condition");
+        return null;
+    }
+
+    @FunctionalInterface
+    private static interface Condition {
+        boolean matches(Event event);
+    }
+
+    private static class AndCondition implements Condition {
+
+        private final Condition[] conditions;
+
+        private AndCondition(Condition[] conditions) {
+            this.conditions = conditions;
+        }
+
+        static Condition of(List<Condition> conditions) {
+            if (conditions.size() == 1) {
+                return conditions.get(0);
+            }
+            return new AndCondition(conditions.toArray(new Condition[conditions.size()]));
+        }
+
+        @Override
+        public boolean matches(Event event) {
+            for (Condition condition : conditions) {
+                if (!condition.matches(event)) {
+                    return false;
                 }
+            }
+            return true;
+        }
+    }
 
-                scanner.reset();
+    private static class OrCondition implements Condition {
+
+        private final Condition[] conditions;
+
+        private OrCondition(Condition[] conditions) {
+            this.conditions = conditions;
+        }
+
+        static Condition of(List<Condition> conditions) {
+            if (conditions.size() == 1) {
+                return conditions.get(0);
+            }
+            return new OrCondition(conditions.toArray(new Condition[conditions.size()]));
+        }
+
+        @Override
+        public boolean matches(Event event) {
+            for (Condition condition : conditions) {
+                if (condition.matches(event)) {
+                    return true;
+                }
             }
+            return false;
         }
-        return matches;
     }
 }
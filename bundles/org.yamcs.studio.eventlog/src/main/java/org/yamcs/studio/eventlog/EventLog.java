@@ -1,7 +1,6 @@
 package org.yamcs.studio.eventlog;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executors;
@@ -26,7 +25,6 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Shell;
-import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.IViewSite;
 import org.eclipse.ui.PlatformUI;
@@ -144,33 +142,32 @@ public class EventLog extends Composite implements YamcsAware {
         });
 
         EventLogSearchBoxFilter searchBoxFilter = new EventLogSearchBoxFilter();
-        tableViewer.addFilter(searchBoxFilter);
+        tableContentProvider.addFilter(searchBoxFilter);
         Debouncer debouncer = new Debouncer(tableUpdater);
         searchbox.addKeyListener(new KeyAdapter() {
             @Override
             public void keyReleased(KeyEvent ke) {
                 if (ke.keyCode == SWT.ARROW_DOWN) {
-                    TableItem[] items = tableViewer.getTable().getItems();
-                    if (items.length > 0) {
-                        tableViewer.getTable().setSelection(items[0]);
+                    if (tableViewer.getTable().getItemCount() > 0) {
+                        tableViewer.getTable().setSelection(0);
                         tableViewer.getTable().setFocus();
                     }
                 } else {
                     String searchString = searchbox.getText();
                     debouncer.debounce(() -> {
                         searchBoxFilter.setSearchTerm(searchString);
-                        getDisplay().syncExec(() -> tableViewer.refresh());
+                        getDisplay().syncExec(() -> tableContentProvider.refilter());
                     }, 400, TimeUnit.MILLISECONDS);
                 }
             }
         });
 
         EventLogSeverityFilter severityFilter = new EventLogSeverityFilter();
-        tableViewer.addFilter(severityFilter);
+        tableContentProvider.addFilter(severityFilter);
         severityCombo.addListener(SWT.Selection, evt -> {
             EventSeverity severity = EventSeverity.valueOf(severityCombo.getText());
             severityFilter.setMinimumSeverity(severity);
-            tableViewer.refresh();
+            tableContentProvider.refilter();
         });
 
         updateState();
@@ -190,10 +187,9 @@ public class EventLog extends Composite implements YamcsAware {
         prefListener = evt -> {
             if (evt.getProperty().equals(PreferencePage.PREF_RULES)) {
                 List<ColoringRule> rules = plugin.composeColoringRules((String) evt.getNewValue());
-                for (EventLogItem item : tableContentProvider.getElements(null)) {
-                    item.colorize(rules);
-                }
-                tableViewer.refresh();
+                tableContentProvider.setColoringRules(rules);
+            } else if (evt.getProperty().equals(PreferencePage.PREF_MAXCOUNT)) {
+                tableContentProvider.setMaximumSize(plugin.getMaximumEventCount());
             }
         };
 
@@ -244,7 +240,7 @@ public class EventLog extends Composite implements YamcsAware {
             int[] indices = tableViewer.getTable().getSelectionIndices();
             if (indices[0] > 0) {
                 int prevIndex = indices[0] - 1;
-                return (EventLogItem) tableViewer.getElementAt(prevIndex);
+                return tableContentProvider.getElementAt(prevIndex);
             }
         }
         return null;
@@ -255,12 +251,16 @@ public class EventLog extends Composite implements YamcsAware {
             int[] indices = tableViewer.getTable().getSelectionIndices();
             if (indices[0] < tableViewer.getTable().getItemCount() - 1) {
                 int nextIndex = indices[0] + 1;
-                return (EventLogItem) tableViewer.getElementAt(nextIndex);
+                return tableContentProvider.getElementAt(nextIndex);
             }
         }
         return null;
     }
 
+    public void selectAndReveal(EventLogItem rec) {
+        tableContentProvider.selectAndReveal(rec);
+    }
+
     private void fetchLatestEvents() {
         ArchiveClient archiveClient = YamcsPlugin.getArchiveClient();
         if (archiveClient != null) {
@@ -290,7 +290,7 @@ public class EventLog extends Composite implements YamcsAware {
         if (isDisposed()) {
             return;
         }
-        tableContentProvider.addEvents(events, false);
+        tableContentProvider.addEvents(events);
     }
 
     public void clear() {
@@ -305,12 +305,12 @@ public class EventLog extends Composite implements YamcsAware {
     public List<Event> getSortedEvents() {
         EventLogSorter comparator = tableViewer.getComparator();
 
-        EventLogItem[] allItems = tableContentProvider.getElements(null);
-        Arrays.sort(allItems, (o1, o2) -> {
+        List<EventLogItem> allItems = tableContentProvider.getItems();
+        allItems.sort((o1, o2) -> {
             return comparator.compare(tableViewer, o1, o2);
         });
 
-        return Arrays.asList(allItems).stream().map(item -> item.event).collect(Collectors.toList());
+        return allItems.stream().map(item -> item.event).collect(Collectors.toList());
     }
 
     public TableViewer getTableViewer() {
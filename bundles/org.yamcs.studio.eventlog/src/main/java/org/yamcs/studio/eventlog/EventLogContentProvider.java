@@ -1,29 +1,68 @@
 package org.yamcs.studio.eventlog;
 
+import static org.yamcs.studio.core.utils.Comparators.LONG_COMPARATOR;
+import static org.yamcs.studio.core.utils.Comparators.TIMESTAMP_COMPARATOR;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import org.eclipse.jface.viewers.IStructuredContentProvider;
-import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.ILazyContentProvider;
 import org.eclipse.jface.viewers.StructuredSelection;
-import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.Viewer;
-import org.eclipse.swt.custom.BusyIndicator;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.swt.widgets.Table;
 import org.yamcs.protobuf.Yamcs.Event;
 
-public class EventLogContentProvider implements IStructuredContentProvider {
+/**
+ * Lazy content provider for the virtual event log table.
+ * <p>
+ * Retained events are kept in generation order, and capped to a maximum size by evicting the oldest events. Filtering
+ * and sorting are done here rather than by the viewer, and the filtered result is maintained as events arrive. Both
+ * lists are ring buffers, so that events are added or evicted at either end without moving the others. The table only
+ * requests (and colorizes) the rows that it actually shows.
+ */
+public class EventLogContentProvider implements ILazyContentProvider {
 
-    private Set<EventLogItem> items = new HashSet<>();
-    private TableViewer tableViewer;
+    private static final Comparator<EventLogItem> GENERATION_ORDER = (o1, o2) -> {
+        Event r1 = o1.event;
+        Event r2 = o2.event;
+        int rc = TIMESTAMP_COMPARATOR.compare(r1.getGenerationTime(), r2.getGenerationTime());
+        if (rc == 0) {
+            rc = LONG_COMPARATOR.compare((long) r1.getSeqNumber(), (long) r2.getSeqNumber());
+        }
+        if (rc == 0) {
+            // Consistent with equals, so that an item can be looked up by binary search
+            rc = r1.getSource().compareTo(r2.getSource());
+        }
+        return rc;
+    };
+
+    private EventLogTableViewer tableViewer;
     private boolean scrollLock;
 
-    private EventLogItem lastAddedEvent;
+    // All retained items, oldest first
+    private RingBufferList<EventLogItem> items = new RingBufferList<>();
+    private Map<EventLogItem, EventLogItem> itemsByKey = new HashMap<>();
+
+    // Items that pass all filters, in table order
+    private RingBufferList<EventLogItem> visibleItems = new RingBufferList<>();
 
-    public EventLogContentProvider(TableViewer tableViewer) {
+    private List<ViewerFilter> filters = new ArrayList<>();
+    private List<ColoringRule> coloringRules;
+    private int maximumSize;
+
+    public EventLogContentProvider(EventLogTableViewer tableViewer) {
         this.tableViewer = tableViewer;
+        EventLogPlugin plugin = EventLogPlugin.getDefault();
+        coloringRules = plugin.loadColoringRules();
+        maximumSize = plugin.getMaximumEventCount();
     }
 
     @Override
@@ -31,71 +70,242 @@ public class EventLogContentProvider implements IStructuredContentProvider {
     }
 
     @Override
-    public EventLogItem[] getElements(Object inputElement) {
-        return items.toArray(new EventLogItem[0]);
+    public void updateElement(int index) {
+        if (index < visibleItems.size()) {
+            EventLogItem item = visibleItems.get(index);
+            item.colorize(coloringRules);
+            tableViewer.replace(item, index);
+        }
     }
 
-    public void addEvent(Event event) {
-        EventLogItem item = new EventLogItem(event);
+    /**
+     * Returns a copy of all retained items, whether they pass the filters or not.
+     */
+    public List<EventLogItem> getItems() {
+        return new ArrayList<>(items);
+    }
 
-        EventLogPlugin plugin = EventLogPlugin.getDefault();
-        item.colorize(plugin.loadColoringRules());
+    /**
+     * Returns the item at the given table index, or null if there is no such index.
+     */
+    public EventLogItem getElementAt(int index) {
+        return (index >= 0 && index < visibleItems.size()) ? visibleItems.get(index) : null;
+    }
 
-        boolean update = items.contains(item);
-        items.add(item);
+    public void addFilter(ViewerFilter filter) {
+        filters.add(filter);
+        refilter();
+    }
 
-        if (update) {
-            tableViewer.update(event, null); // Null, means all properties
-            maybeSelectAndReveal(item);
-        } else {
-            tableViewer.add(event);
-            maybeSelectAndReveal(item);
-        }
+    public void setColoringRules(List<ColoringRule> coloringRules) {
+        this.coloringRules = coloringRules;
+        refreshTable(captureViewState());
     }
 
-    public void addEvents(List<Event> events, boolean increment) {
-        // 'increment' makes it a LOT slower. This is especially noticeable on batch imports.
-        // Not sure if we need increment anywhere.
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+        ViewState state = captureViewState();
+        evictOldest();
+        refreshTable(state);
+    }
 
+    public void addEvent(Event event) {
+        addEvents(Collections.singletonList(event));
+    }
+
+    public void addEvents(List<Event> events) {
         if (events.isEmpty()) {
             return;
         }
+        ViewState state = captureViewState();
 
-        EventLogPlugin plugin = EventLogPlugin.getDefault();
+        // New items by key, so that an event that is repeated within the batch replaces the earlier one
+        Map<EventLogItem, EventLogItem> addedByKey = new LinkedHashMap<>();
+        EventLogItem lastItem = null;
+        for (Event event : events) {
+            EventLogItem item = new EventLogItem(event);
+            EventLogItem previous = itemsByKey.put(item, item);
+            if (previous == null || addedByKey.containsKey(item)) {
+                addedByKey.put(item, item);
+            } else {
+                replaceItem(previous, item);
+            }
+            lastItem = item;
+        }
+
+        if (!addedByKey.isEmpty()) {
+            // Only the batch is sorted. It is then inserted into the already sorted lists.
+            List<EventLogItem> added = new ArrayList<>(addedByKey.values());
+            added.sort(GENERATION_ORDER);
+            items.addAllSorted(added, GENERATION_ORDER);
+
+            List<EventLogItem> addedVisible = new ArrayList<>(added.size());
+            for (EventLogItem item : added) {
+                if (passesFilters(item)) {
+                    addedVisible.add(item);
+                }
+            }
+            Comparator<Object> tableOrder = tableOrder();
+            addedVisible.sort(tableOrder);
+            visibleItems.addAllSorted(addedVisible, tableOrder);
 
-        List<EventLogItem> updated = new ArrayList<>();
-        List<EventLogItem> added = new ArrayList<>();
+            evictOldest();
+        }
+
+        if (tableViewer.getInput() == null) {
+            tableViewer.setInput("anything-except-null");
+        }
+        refreshTable(state);
+        if (!scrollLock) {
+            selectAndReveal(lastItem);
+        }
+    }
 
-        List<EventLogItem> newItems = events.stream()
-                .map(EventLogItem::new).collect(Collectors.toList());
+    private void replaceItem(EventLogItem oldItem, EventLogItem newItem) {
+        // The replacement has the same generation time, sequence number and source, so it takes the same position
+        items.set(Collections.binarySearch(items, oldItem, GENERATION_ORDER), newItem);
+        int index = indexOf(oldItem);
+        if (index != -1) {
+            visibleItems.remove(index);
+        }
+        if (passesFilters(newItem)) {
+            int insertionPoint = Collections.binarySearch(visibleItems, newItem, tableOrder());
+            visibleItems.add(insertionPoint < 0 ? -(insertionPoint + 1) : insertionPoint, newItem);
+        }
+    }
 
-        newItems.forEach(newItem -> {
-            newItem.colorize(plugin.loadColoringRules());
-            if (items.contains(newItem)) {
-                updated.add(newItem);
+    private void evictOldest() {
+        int excess = items.size() - maximumSize;
+        if (excess > 0) {
+            List<EventLogItem> evicted = new ArrayList<>(items.subList(0, excess));
+            items.removeFirst(excess);
+            for (EventLogItem item : evicted) {
+                itemsByKey.remove(item);
+            }
+            if (excess <= visibleItems.size() / 16) {
+                for (EventLogItem item : evicted) {
+                    int index = indexOf(item);
+                    if (index != -1) {
+                        visibleItems.remove(index);
+                    }
+                }
             } else {
-                added.add(newItem);
+                Set<EventLogItem> evictedSet = new HashSet<>(evicted);
+                visibleItems.removeIf(evictedSet::contains);
             }
-            items.add(newItem);
-        });
+        }
+    }
 
-        if (increment) {
-            tableViewer.add(added.toArray());
-            tableViewer.update(updated.toArray(), null);
-        } else {
-            tableViewer.setInput("anything-except-null");
-            tableViewer.refresh();
+    private boolean passesFilters(EventLogItem item) {
+        for (ViewerFilter filter : filters) {
+            if (!filter.select(tableViewer, null, item)) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        lastAddedEvent = newItems.get(newItems.size() - 1);
+    /**
+     * Recomputes the filtered items, following a change in filter criteria.
+     */
+    public void refilter() {
+        ViewState state = captureViewState();
+        visibleItems.clear();
+        for (EventLogItem item : items) {
+            if (passesFilters(item)) {
+                visibleItems.add(item);
+            }
+        }
+        visibleItems.sort(tableOrder());
+        refreshTable(state);
+    }
 
-        maybeSelectAndReveal(lastAddedEvent);
+    /**
+     * Reorders the filtered items, following a change in sort column or direction.
+     */
+    public void resort() {
+        ViewState state = captureViewState();
+        visibleItems.sort(tableOrder());
+        refreshTable(state);
     }
 
-    private void maybeSelectAndReveal(EventLogItem event) {
-        if (!scrollLock) {
-            IStructuredSelection sel = new StructuredSelection(event);
-            tableViewer.setSelection(sel, true);
+    /**
+     * Selects the given item, and scrolls it into view.
+     */
+    public void selectAndReveal(EventLogItem item) {
+        int index = indexOf(item);
+        if (index != -1) {
+            // Make sure the item is materialized, else the viewer would resolve every row while searching for it.
+            item.colorize(coloringRules);
+            tableViewer.replace(item, index);
+            tableViewer.setSelection(new StructuredSelection(item), true);
+        }
+    }
+
+    private Comparator<Object> tableOrder() {
+        EventLogSorter comparator = tableViewer.getComparator();
+        return (o1, o2) -> comparator.compare(tableViewer, o1, o2);
+    }
+
+    private int indexOf(EventLogItem item) {
+        Comparator<Object> tableOrder = tableOrder();
+        int index = Collections.binarySearch(visibleItems, item, tableOrder);
+        if (index < 0) {
+            return -1;
+        }
+        // Ties in the sort order
+        for (int i = index; i >= 0 && tableOrder.compare(visibleItems.get(i), item) == 0; i--) {
+            if (visibleItems.get(i) == item) {
+                return i;
+            }
+        }
+        for (int i = index + 1; i < visibleItems.size() && tableOrder.compare(visibleItems.get(i), item) == 0; i++) {
+            if (visibleItems.get(i) == item) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ViewState captureViewState() {
+        Table table = tableViewer.getTable();
+        ViewState state = new ViewState();
+        for (int index : table.getSelectionIndices()) {
+            if (index < visibleItems.size()) {
+                state.selection.add(visibleItems.get(index));
+            }
+        }
+        int topIndex = table.getTopIndex();
+        if (topIndex < visibleItems.size()) {
+            state.topItem = visibleItems.get(topIndex);
+        }
+        return state;
+    }
+
+    /**
+     * Updates the table item count and clears all rows, so that only the rows in view are requested again. Selection
+     * and scroll position are restored on the same items as before.
+     */
+    private void refreshTable(ViewState state) {
+        Table table = tableViewer.getTable();
+        table.setRedraw(false);
+        try {
+            tableViewer.setItemCount(visibleItems.size());
+            table.clearAll();
+
+            int[] indices = state.selection.stream()
+                    .mapToInt(this::indexOf)
+                    .filter(index -> index != -1)
+                    .toArray();
+            table.setSelection(indices);
+            if (state.topItem != null) {
+                int topIndex = indexOf(state.topItem);
+                if (topIndex != -1) {
+                    table.setTopIndex(topIndex);
+                }
+            }
+        } finally {
+            table.setRedraw(true);
         }
     }
 
@@ -104,12 +314,15 @@ public class EventLogContentProvider implements IStructuredContentProvider {
     }
 
     public void clearAll() {
-        // TODO not sure if this is the recommended way to delete all. Need to verify
-        BusyIndicator.showWhile(tableViewer.getTable().getDisplay(), () -> {
-            tableViewer.getTable().setRedraw(false);
-            tableViewer.remove(items.toArray());
-            items.clear();
-            tableViewer.getTable().setRedraw(true);
-        });
+        items.clear();
+        itemsByKey.clear();
+        visibleItems.clear();
+        tableViewer.setItemCount(0);
+        tableViewer.getTable().clearAll();
+    }
+
+    private static class ViewState {
+        EventLogItem topItem;
+        List<EventLogItem> selection = new ArrayList<>();
     }
 }
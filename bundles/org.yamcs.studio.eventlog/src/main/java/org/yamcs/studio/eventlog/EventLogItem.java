@@ -12,11 +12,23 @@ public class EventLogItem {
     public RGB bg;
     public RGB fg;
 
+    // Rules that were used to determine the current colors
+    private List<ColoringRule> appliedRules;
+
     public EventLogItem(Event event) {
         this.event = event;
     }
 
+    /**
+     * Determines the colors of this item. Does nothing if this item was already colorized with the same rules.
+     */
     public void colorize(List<ColoringRule> rules) {
+        if (rules == appliedRules) {
+            return;
+        }
+        appliedRules = rules;
+        bg = null;
+        fg = null;
         for (ColoringRule rule : rules) {
             if (rule.matches(event)) {
                 bg = rule.bg;
@@ -33,7 +45,7 @@ public class EventLogItem {
         }
         Event other = ((EventLogItem) obj).event;
         return event.getSeqNumber() == other.getSeqNumber()
-                && event.getGenerationTime() == other.getGenerationTime()
+                && event.getGenerationTime().equals(other.getGenerationTime())
                 && event.getSource().equals(other.getSource());
     }
 
@@ -2,6 +2,8 @@ package org.yamcs.studio.eventlog;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -15,6 +17,8 @@ public class EventLogPlugin extends AbstractUIPlugin {
 
     public static final String PLUGIN_ID = "org.yamcs.studio.eventlog";
 
+    private static final Logger log = Logger.getLogger(EventLogPlugin.class.getName());
+
     private static EventLogPlugin plugin;
 
     @Override
@@ -50,6 +54,10 @@ public class EventLogPlugin extends AbstractUIPlugin {
         return getPreferenceStore().getInt(PreferencePage.PREF_LINECOUNT);
     }
 
+    public int getMaximumEventCount() {
+        return Math.max(1, getPreferenceStore().getInt(PreferencePage.PREF_MAXCOUNT));
+    }
+
     public void storeColoringRules(List<ColoringRule> rules) {
         IPreferenceStore store = getPreferenceStore();
 
@@ -80,6 +88,10 @@ public class EventLogPlugin extends AbstractUIPlugin {
         return composeColoringRules(joined);
     }
 
+    /**
+     * Parses stored coloring rules. Rules that can no longer be parsed are skipped, so that they do not prevent the
+     * event log from starting.
+     */
     public List<ColoringRule> composeColoringRules(String joined) {
         if (joined.equals(IPreferenceStore.STRING_DEFAULT_DEFAULT)) {
             return new ArrayList<>(0);
@@ -88,9 +100,13 @@ public class EventLogPlugin extends AbstractUIPlugin {
         List<ColoringRule> rules = new ArrayList<>();
         for (String ruleString : joined.split(";")) {
             String[] parts = ruleString.split("@");
-            RGB bg = StringConverter.asRGB(parts[1]);
-            RGB fg = StringConverter.asRGB(parts[2]);
-            rules.add(new ColoringRule(parts[0], bg, fg));
+            try {
+                RGB bg = StringConverter.asRGB(parts[1]);
+                RGB fg = StringConverter.asRGB(parts[2]);
+                rules.add(new ColoringRule(parts[0], bg, fg));
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Skipping invalid coloring rule '" + ruleString + "'", e);
+            }
         }
         return rules;
     }
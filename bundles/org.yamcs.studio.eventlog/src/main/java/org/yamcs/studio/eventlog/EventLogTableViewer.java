@@ -92,10 +92,9 @@ public class EventLogTableViewer extends TableViewer {
 
         columnData = createDefaultColumnData();
         restoreColumnState();
-        createColumns();
-
+        // Sorting is done by the lazy content provider
         comparator = new EventLogSorter();
-        setComparator(comparator);
+        createColumns();
     }
 
     public ColumnData createDefaultColumnData() {
@@ -124,7 +123,7 @@ public class EventLogTableViewer extends TableViewer {
                 int dir = comparator.getDirection();
                 getTable().setSortDirection(dir);
                 getTable().setSortColumn(column);
-                refresh();
+                ((EventLogContentProvider) getContentProvider()).resort();
             }
         };
         return selectionAdapter;
@@ -12,6 +12,7 @@ public class PreferencePage extends FieldEditorPreferencePage implements IWorkbe
 
     public static final String PREF_LINECOUNT = "events.nbMessageLineToDisplay";
     public static final String PREF_RULES = "rules.list";
+    public static final String PREF_MAXCOUNT = "events.maxCount";
 
     private IntegerFieldEditor messageLineCount;
 
@@ -35,6 +36,11 @@ public class PreferencePage extends FieldEditorPreferencePage implements IWorkbe
         messageLineCount = new IntegerFieldEditor(PREF_LINECOUNT,
                 "Number of lines per event message (0: unlimited)", parent);
         addField(messageLineCount);
+
+        IntegerFieldEditor maximumCount = new IntegerFieldEditor(PREF_MAXCOUNT,
+                "Maximum number of events to keep (oldest are discarded)", parent);
+        maximumCount.setValidRange(1, 10_000_000);
+        addField(maximumCount);
     }
 
     @Override
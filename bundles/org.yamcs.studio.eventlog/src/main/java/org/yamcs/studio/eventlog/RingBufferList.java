@@ -0,0 +1,187 @@
+package org.yamcs.studio.eventlog;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * A list backed by a circular array. Elements are added or removed at either end without moving the other elements,
+ * and an insertion or removal in the middle only moves the elements on the shorter side.
+ */
+class RingBufferList<E> extends AbstractList<E> implements RandomAccess {
+
+    private Object[] elements = new Object[16];
+    private int head = 0;
+    private int size = 0;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) elements[physicalIndex(index)];
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = get(index);
+        elements[physicalIndex(index)] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+        if (size == elements.length) {
+            resize(size * 2);
+        }
+        if (index < size / 2) {
+            head = (head == 0) ? elements.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i - 1)];
+            }
+        }
+        elements[physicalIndex(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = get(index);
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i - 1)];
+            }
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i + 1)];
+            }
+            elements[physicalIndex(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the given number of elements from the start of this list.
+     */
+    void removeFirst(int count) {
+        checkIndex(count, size + 1);
+        for (int i = 0; i < count; i++) {
+            elements[physicalIndex(i)] = null;
+        }
+        head = (head + count) % elements.length;
+        size -= count;
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            E element = get(i);
+            if (!filter.test(element)) {
+                elements[physicalIndex(kept++)] = element;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        for (int i = kept; i < size; i++) {
+            elements[physicalIndex(i)] = null;
+        }
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Inserts elements into this list, which is expected to be sorted by the given comparator. Elements that compare
+     * equal to elements that are already in the list are inserted after them.
+     *
+     * @param sortedElements
+     *            the elements to insert, sorted by the same comparator
+     */
+    void addAllSorted(List<? extends E> sortedElements, Comparator<? super E> comparator) {
+        if (sortedElements.size() <= size / 16) {
+            for (E element : sortedElements) {
+                add(upperBound(element, comparator), element);
+            }
+        } else {
+            // Large batches are merged at once, rather than moving elements for every insertion
+            Object[] merged = new Object[Math.max(16, Integer.highestOneBit(size + sortedElements.size()) * 2)];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < size || j < sortedElements.size()) {
+                if (j == sortedElements.size()
+                        || (i < size && comparator.compare(get(i), sortedElements.get(j)) <= 0)) {
+                    merged[k++] = get(i++);
+                } else {
+                    merged[k++] = sortedElements.get(j++);
+                }
+            }
+            elements = merged;
+            head = 0;
+            size = k;
+            modCount++;
+        }
+    }
+
+    private int upperBound(E element, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(get(mid), element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void resize(int capacity) {
+        Object[] resized = new Object[capacity];
+        for (int i = 0; i < size; i++) {
+            resized[i] = elements[physicalIndex(i)];
+        }
+        elements = resized;
+        head = 0;
+    }
+
+    private int physicalIndex(int index) {
+        int physical = head + index;
+        return (physical < elements.length) ? physical : physical - elements.length;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+}